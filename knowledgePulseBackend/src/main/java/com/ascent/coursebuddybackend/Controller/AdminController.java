@@ -1,5 +1,6 @@
 package com.ascent.coursebuddybackend.Controller;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -8,7 +9,7 @@ import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -16,7 +17,17 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-
+import org.springframework.web.server.ResponseStatusException;
+
+import com.ascent.coursebuddybackend.Service.ConnectionPoolService;
+import com.ascent.coursebuddybackend.Service.CourseCatalogCache;
+import com.ascent.coursebuddybackend.Service.CourseSearchIndex;
+import com.ascent.coursebuddybackend.Service.LoginRateLimiter;
+import com.ascent.coursebuddybackend.Service.OutboxDispatcher;
+import com.ascent.coursebuddybackend.Service.PrincipalCache;
+import com.ascent.coursebuddybackend.Service.SeatReservationService;
+import com.ascent.coursebuddybackend.Service.TokenRevocationService;
+import com.ascent.coursebuddybackend.config.BoundedPasswordEncoder;
 import com.ascent.coursebuddybackend.entity.Users;
 import com.ascent.coursebuddybackend.repository.UserRepo;
 
@@ -27,8 +38,33 @@ public class AdminController {
     
     @Autowired
     private UserRepo userRepo;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private CourseSearchIndex courseSearchIndex;
+
+    @Autowired
+    private CourseCatalogCache courseCatalogCache;
+
+    @Autowired
+    private SeatReservationService seatReservationService;
+
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
+
+    @Autowired
+    private ConnectionPoolService connectionPoolService;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
     
-    private BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(12);
+    @Autowired
+    private BoundedPasswordEncoder encoder;
 
     @PostMapping("/create-admin")
     public ResponseEntity<?> createAdmin(@RequestBody Map<String, String> request) {
@@ -61,6 +97,8 @@ public class AdminController {
             response.put("role", "ADMIN");
 
             return ResponseEntity.ok(response);
+        } catch (ResponseStatusException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body("Error creating admin: " + e.getMessage());
@@ -103,13 +141,67 @@ public class AdminController {
                     .body("User not found: " + username);
             }
 
+            LocalDateTime changedAt = LocalDateTime.now();
             user.setPassword(encoder.encode(newPassword));
+            user.setCredentialsChangedAt(changedAt);
             userRepo.save(user);
+            principalCache.invalidate(username);
+            tokenRevocationService.revokeTokensIssuedBefore(username, changedAt);
 
             return ResponseEntity.ok("Password updated successfully for user: " + username);
+        } catch (ResponseStatusException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body("Error updating password: " + e.getMessage());
         }
     }
+
+    @GetMapping("/principal-cache/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> principalCacheStats() {
+        return ResponseEntity.ok(principalCache.getStats());
+    }
+
+    @GetMapping("/search-index/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> searchIndexStats() {
+        return ResponseEntity.ok(courseSearchIndex.getStats());
+    }
+
+    @GetMapping("/course-cache/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> courseCacheStats() {
+        return ResponseEntity.ok(courseCatalogCache.getStats());
+    }
+
+    @GetMapping("/seat-reservations/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> seatReservationStats() {
+        return ResponseEntity.ok(seatReservationService.getStats());
+    }
+
+    @GetMapping("/password-hashing/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> passwordHashingStats() {
+        return ResponseEntity.ok(encoder.getStats());
+    }
+
+    @GetMapping("/login-rate-limit/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> loginRateLimitStats() {
+        return ResponseEntity.ok(loginRateLimiter.getStats());
+    }
+
+    @GetMapping("/datasource/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> dataSourceStats() {
+        return ResponseEntity.ok(connectionPoolService.getStats());
+    }
+
+    @GetMapping("/events/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> domainEventStats() {
+        return ResponseEntity.ok(outboxDispatcher.getStats());
+    }
 }
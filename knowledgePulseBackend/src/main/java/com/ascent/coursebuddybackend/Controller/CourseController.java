@@ -1,7 +1,6 @@
 package com.ascent.coursebuddybackend.Controller;
 
 import java.util.List;
-import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -16,30 +15,87 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.ascent.coursebuddybackend.Service.CourseRankingService;
 import com.ascent.coursebuddybackend.Service.CourseService;
+import com.ascent.coursebuddybackend.Service.CourseStatsService;
+import com.ascent.coursebuddybackend.dto.CourseDto;
+import com.ascent.coursebuddybackend.dto.CourseFilter;
+import com.ascent.coursebuddybackend.dto.CourseStats;
+import com.ascent.coursebuddybackend.dto.CourseStatsSummary;
+import com.ascent.coursebuddybackend.dto.PageResponse;
+import com.ascent.coursebuddybackend.dto.StudentDto;
 import com.ascent.coursebuddybackend.entity.Course;
 import com.ascent.coursebuddybackend.entity.CustomUserDetails;
-import com.ascent.coursebuddybackend.entity.Student;
 
 @RestController
 @RequestMapping("/api/courses")
 @CrossOrigin(origins = "*")
 public class CourseController {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private CourseService courseService;
 
+    @Autowired
+    private CourseStatsService courseStatsService;
+
+    @Autowired
+    private CourseRankingService courseRankingService;
+
+    // Without paging, sorting or filter parameters this keeps returning the
+    // full catalog as a plain array for existing clients; with any of them it
+    // returns a page envelope
     @GetMapping
-    public ResponseEntity<List<Course>> getAllCourses() {
-        List<Course> courses = courseService.getAllCourses();
-        return ResponseEntity.ok(courses);
+    public ResponseEntity<?> getAllCourses(
+            CourseFilter filter,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) Long cursor) {
+        if (page == null && size == null && sort == null && cursor == null && filter.isEmpty()) {
+            List<CourseDto> courses = courseService.getCatalog();
+            return ResponseEntity.ok(courses);
+        }
+        return ResponseEntity.ok(getCoursePage(filter, page, size, sort, cursor));
+    }
+
+    @GetMapping("/filter")
+    public ResponseEntity<PageResponse<CourseDto>> filterCourses(
+            CourseFilter filter,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) Long cursor) {
+        return ResponseEntity.ok(getCoursePage(filter, page, size, sort, cursor));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<CourseDto>> searchCourses(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<CourseDto> results = courseService.searchCourses(query, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+        return ResponseEntity.ok(results);
+    }
+
+    // Ranked by recent enrollment velocity; answered from memory
+    @GetMapping("/popular")
+    public ResponseEntity<List<CourseDto>> getPopularCourses(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(courseRankingService.getPopular(Math.max(1, limit)));
+    }
+
+    @GetMapping("/featured")
+    public ResponseEntity<List<CourseDto>> getFeaturedCourses() {
+        return ResponseEntity.ok(courseRankingService.getFeatured());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Course> getCourseById(@PathVariable Long id) {
-        Course course = courseService.getCourseById(id);
+    public ResponseEntity<CourseDto> getCourseById(@PathVariable Long id) {
+        CourseDto course = courseService.getCourseDto(id);
         return ResponseEntity.ok(course);
     }
 
@@ -66,10 +122,29 @@ public class CourseController {
     }
 
     @GetMapping("/{id}/students")
-    public ResponseEntity<Set<Student>> getCourseStudents(@PathVariable Long id) {
-        Set<Student> students = courseService.getCourseStudents(id);
+    public ResponseEntity<List<StudentDto>> getCourseStudents(@PathVariable Long id) {
+        List<StudentDto> students = courseService.getCourseStudents(id);
         return ResponseEntity.ok(students);
     }
 
+    // Served from in-memory counters; see CourseStatsService
+    @GetMapping("/{id}/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CourseStats> getCourseStats(@PathVariable Long id) {
+        return ResponseEntity.ok(courseStatsService.getCourseStats(id));
+    }
 
-}
\ No newline at end of file
+    @GetMapping("/stats/all")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CourseStatsSummary> getAllCourseStats() {
+        return ResponseEntity.ok(courseStatsService.getAllStats());
+    }
+
+    private PageResponse<CourseDto> getCoursePage(CourseFilter filter, Integer page, Integer size, String sort, Long cursor) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        if (cursor != null) {
+            return courseService.getCoursesAfter(filter, cursor, pageSize);
+        }
+        return courseService.getCoursePage(filter, page == null ? 0 : Math.max(page, 0), pageSize, sort);
+    }
+}
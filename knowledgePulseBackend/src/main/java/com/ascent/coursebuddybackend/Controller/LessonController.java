@@ -0,0 +1,111 @@
+package com.ascent.coursebuddybackend.Controller;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.ascent.coursebuddybackend.Service.FileDownloadService;
+import com.ascent.coursebuddybackend.Service.LessonFileStore;
+import com.ascent.coursebuddybackend.Service.LessonService;
+import com.ascent.coursebuddybackend.dto.LessonDto;
+import com.ascent.coursebuddybackend.dto.LessonFileDto;
+import com.ascent.coursebuddybackend.entity.CustomUserDetails;
+import com.ascent.coursebuddybackend.entity.Lesson;
+import com.ascent.coursebuddybackend.entity.LessonFile;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@RestController
+@RequestMapping("/api/courses/{courseId}/lessons")
+@CrossOrigin(origins = "*")
+public class LessonController {
+
+    @Autowired
+    private LessonService lessonService;
+
+    @Autowired
+    private LessonFileStore lessonFileStore;
+
+    @Autowired
+    private FileDownloadService fileDownloadService;
+
+    @GetMapping
+    public ResponseEntity<List<LessonDto>> getLessons(@PathVariable Long courseId) {
+        return ResponseEntity.ok(lessonService.getLessons(courseId));
+    }
+
+    @GetMapping("/{lessonId}")
+    public ResponseEntity<LessonDto> getLesson(@PathVariable Long courseId, @PathVariable Long lessonId) {
+        return ResponseEntity.ok(lessonService.getLesson(courseId, lessonId));
+    }
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<LessonDto> createLesson(@PathVariable Long courseId, @RequestBody Lesson lesson) {
+        return new ResponseEntity<>(lessonService.createLesson(courseId, lesson), HttpStatus.CREATED);
+    }
+
+    @PutMapping("/{lessonId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<LessonDto> updateLesson(@PathVariable Long courseId, @PathVariable Long lessonId,
+                                                  @RequestBody Lesson lesson) {
+        return ResponseEntity.ok(lessonService.updateLesson(courseId, lessonId, lesson));
+    }
+
+    @DeleteMapping("/{lessonId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> deleteLesson(@PathVariable Long courseId, @PathVariable Long lessonId) {
+        lessonService.deleteLesson(courseId, lessonId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping(value = "/{lessonId}/files", consumes = "multipart/form-data")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<LessonFileDto> uploadFile(@PathVariable Long courseId, @PathVariable Long lessonId,
+                                                    @RequestPart("file") MultipartFile file,
+                                                    @RequestParam(defaultValue = "ATTACHMENT") LessonFile.Kind kind)
+            throws IOException {
+        return new ResponseEntity<>(lessonService.addFile(courseId, lessonId, kind, file), HttpStatus.CREATED);
+    }
+
+    @DeleteMapping("/{lessonId}/files/{fileId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> deleteFile(@PathVariable Long courseId, @PathVariable Long lessonId,
+                                           @PathVariable Long fileId) {
+        lessonService.deleteFile(courseId, lessonId, fileId);
+        return ResponseEntity.noContent().build();
+    }
+
+    // Streams straight from disk with Range/ETag handling; see FileDownloadService
+    @GetMapping("/{lessonId}/files/{fileId}")
+    public void downloadFile(@PathVariable Long courseId, @PathVariable Long lessonId, @PathVariable Long fileId,
+                             @AuthenticationPrincipal CustomUserDetails userDetails,
+                             HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (userDetails == null) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+        LessonFile file = lessonService.getFileForDownload(courseId, lessonId, fileId, userDetails.getUser());
+        fileDownloadService.send(lessonFileStore.resolve(file.getStorageKey()), file.getSize(), file.getSha256(),
+                file.getContentType(), file.getFileName(), file.getKind() == LessonFile.Kind.MEDIA,
+                request, response);
+    }
+}
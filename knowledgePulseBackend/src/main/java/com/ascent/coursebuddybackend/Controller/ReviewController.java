@@ -0,0 +1,83 @@
+package com.ascent.coursebuddybackend.Controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ascent.coursebuddybackend.Service.ConflictRetry;
+import com.ascent.coursebuddybackend.Service.ReviewService;
+import com.ascent.coursebuddybackend.dto.PageResponse;
+import com.ascent.coursebuddybackend.dto.RatingSummary;
+import com.ascent.coursebuddybackend.dto.ReviewDto;
+import com.ascent.coursebuddybackend.entity.CustomUserDetails;
+import com.ascent.coursebuddybackend.entity.Review;
+
+@RestController
+@RequestMapping("/api/courses/{courseId}/reviews")
+@CrossOrigin(origins = "*")
+public class ReviewController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ConflictRetry conflictRetry;
+
+    // Newest first; pass nextCursor from the previous page as cursor
+    @GetMapping
+    public ResponseEntity<PageResponse<ReviewDto>> getReviews(
+            @PathVariable Long courseId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(reviewService.getReviews(courseId, cursor, Math.max(1, Math.min(size, MAX_PAGE_SIZE))));
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<RatingSummary> getRatingSummary(@PathVariable Long courseId) {
+        return ResponseEntity.ok(reviewService.getRatingSummary(courseId));
+    }
+
+    @PostMapping
+    public ResponseEntity<ReviewDto> createReview(@PathVariable Long courseId, @RequestBody Review review,
+                                                  @AuthenticationPrincipal CustomUserDetails userDetails) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        ReviewDto created = conflictRetry.execute(() -> reviewService.createReview(courseId, userDetails.getUser(), review));
+        return new ResponseEntity<>(created, HttpStatus.CREATED);
+    }
+
+    @PutMapping("/{reviewId}")
+    public ResponseEntity<ReviewDto> updateReview(@PathVariable Long courseId, @PathVariable Long reviewId,
+                                                  @RequestBody Review review,
+                                                  @AuthenticationPrincipal CustomUserDetails userDetails) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(conflictRetry.execute(
+                () -> reviewService.updateReview(courseId, reviewId, userDetails.getUser(), review)));
+    }
+
+    @DeleteMapping("/{reviewId}")
+    public ResponseEntity<Void> deleteReview(@PathVariable Long courseId, @PathVariable Long reviewId,
+                                             @AuthenticationPrincipal CustomUserDetails userDetails) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        conflictRetry.run(() -> reviewService.deleteReview(courseId, reviewId, userDetails.getUser()));
+        return ResponseEntity.noContent().build();
+    }
+}
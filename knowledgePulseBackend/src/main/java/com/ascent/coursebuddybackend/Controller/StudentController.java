@@ -1,12 +1,15 @@
 package com.ascent.coursebuddybackend.Controller;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -17,15 +20,28 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
+import com.ascent.coursebuddybackend.Service.BulkEnrollmentService;
+import com.ascent.coursebuddybackend.Service.ConflictRetry;
+import com.ascent.coursebuddybackend.Service.IdempotencyService;
+import com.ascent.coursebuddybackend.Service.StudentExportService;
 import com.ascent.coursebuddybackend.Service.StudentService;
+import com.ascent.coursebuddybackend.dto.BulkEnrollmentResponse;
+import com.ascent.coursebuddybackend.dto.EnrollmentRequest;
+import com.ascent.coursebuddybackend.dto.EnrollmentResult;
+import com.ascent.coursebuddybackend.dto.StudentDto;
 import com.ascent.coursebuddybackend.entity.Course;
 import com.ascent.coursebuddybackend.entity.CustomUserDetails;
 import com.ascent.coursebuddybackend.entity.Student;
 
+import jakarta.servlet.http.HttpServletResponse;
+
 @RestController
 @RequestMapping("/api/students")
 @CrossOrigin(origins = "*")
@@ -33,13 +49,43 @@ public class StudentController {
     @Autowired
     private StudentService studentService;
 
+    @Autowired
+    private StudentExportService studentExportService;
+
+    @Autowired
+    private BulkEnrollmentService bulkEnrollmentService;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private ConflictRetry conflictRetry;
+
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Student>> getAllStudents() {
-        List<Student> students = studentService.getAllStudents();
+    public ResponseEntity<List<StudentDto>> getAllStudents() {
+        List<StudentDto> students = studentService.getAllStudents();
         return ResponseEntity.ok(students);
     }
 
+    // Streams all students with their enrollments as NDJSON (default) or CSV
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportStudents(@RequestParam(defaultValue = "ndjson") String format,
+                               HttpServletResponse response) throws IOException {
+        StudentExportService.Format exportFormat = "csv".equalsIgnoreCase(format)
+                ? StudentExportService.Format.CSV
+                : StudentExportService.Format.NDJSON;
+        if (exportFormat == StudentExportService.Format.CSV) {
+            response.setContentType("text/csv;charset=UTF-8");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"students.csv\"");
+        } else {
+            response.setContentType("application/x-ndjson;charset=UTF-8");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"students.ndjson\"");
+        }
+        studentExportService.export(exportFormat, response.getOutputStream());
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Student> getStudentById(@PathVariable Long id) {
@@ -49,8 +95,6 @@ public class StudentController {
 
     @PostMapping
     public ResponseEntity<Student> createStudent(@RequestBody Student student, @RequestParam String username) {
-        System.out.println("------Student Controller-----");
-        System.out.println(student);
         Student createdStudent = studentService.createStudent(student, username);
         return new ResponseEntity<>(createdStudent, HttpStatus.CREATED);
     }
@@ -67,7 +111,6 @@ public class StudentController {
         if (userDetails == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
-        System.out.println(userDetails.getUser());
         Student student = studentService.getStudentByUser(userDetails.getUser());
         return ResponseEntity.ok(student);
     }
@@ -99,16 +142,33 @@ public class StudentController {
         return ResponseEntity.ok(courses);
     }
 
+    // Enrollment endpoints accept an optional Idempotency-Key header: a retried
+    // request with the same key gets the original response instead of running again
     @PostMapping("/me/enroll")
-    public ResponseEntity<Map<String, String>> enrollInCourse(
+    public ResponseEntity<Map<String, Object>> enrollInCourse(
             @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @RequestBody Map<String, Long> request) {
         if (userDetails == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
         Long courseId = request.get("courseId");
-        studentService.enrollStudentInCourseByUser(userDetails.getUser(), courseId);
-        Map<String, String> response = new HashMap<>();
+        return idempotencyService.execute(userDetails.getUsername(), idempotencyKey, "enroll:" + courseId, () -> {
+            EnrollmentResult result = conflictRetry.execute(
+                    () -> studentService.enrollStudentInCourseByUser(userDetails.getUser(), courseId));
+            return enrollmentResponse(result);
+        });
+    }
+
+    private static ResponseEntity<Map<String, Object>> enrollmentResponse(EnrollmentResult result) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", result.status());
+        if (result.status() == EnrollmentResult.Status.WAITLISTED) {
+            // Course is full: accepted onto the waitlist, not enrolled
+            response.put("message", "Course is full; added to the waitlist");
+            response.put("waitlistPosition", result.waitlistPosition());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        }
         response.put("message", "Successfully enrolled in course");
         return ResponseEntity.ok(response);
     }
@@ -116,15 +176,18 @@ public class StudentController {
     @PostMapping("/me/unenroll")
     public ResponseEntity<Map<String, String>> unenrollFromCourse(
             @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @RequestBody Map<String, Long> request) {
         if (userDetails == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
         Long courseId = request.get("courseId");
-        studentService.unenrollStudentFromCourseByUser(userDetails.getUser(), courseId);
-        Map<String, String> response = new HashMap<>();
-        response.put("message", "Successfully unenrolled from course");
-        return ResponseEntity.ok(response);
+        return idempotencyService.execute(userDetails.getUsername(), idempotencyKey, "unenroll:" + courseId, () -> {
+            conflictRetry.run(() -> studentService.unenrollStudentFromCourseByUser(userDetails.getUser(), courseId));
+            Map<String, String> response = new HashMap<>();
+            response.put("message", "Successfully unenrolled from course");
+            return ResponseEntity.ok(response);
+        });
     }
 
     @GetMapping("/{id}/courses")
@@ -136,19 +199,41 @@ public class StudentController {
 
     @PostMapping("/{studentId}/courses/{courseId}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Student> enrollStudentInCourse(
+    public ResponseEntity<Map<String, Object>> enrollStudentInCourse(
             @PathVariable Long studentId,
-            @PathVariable Long courseId) {
-        Student student = studentService.enrollStudentInCourse(studentId, courseId);
-        return ResponseEntity.ok(student);
+            @PathVariable Long courseId,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        return idempotencyService.execute(userDetails.getUsername(), idempotencyKey,
+                "enroll:" + studentId + ":" + courseId, () -> enrollmentResponse(
+                        conflictRetry.execute(() -> studentService.enrollStudentInCourse(studentId, courseId))));
     }
 
     @DeleteMapping("/{studentId}/courses/{courseId}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Void> unenrollStudentFromCourse(
             @PathVariable Long studentId,
-            @PathVariable Long courseId) {
-        studentService.unenrollStudentFromCourse(studentId, courseId);
-        return ResponseEntity.noContent().build();
+            @PathVariable Long courseId,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        return idempotencyService.execute(userDetails.getUsername(), idempotencyKey,
+                "unenroll:" + studentId + ":" + courseId, () -> {
+                    conflictRetry.run(() -> studentService.unenrollStudentFromCourse(studentId, courseId));
+                    return ResponseEntity.noContent().<Void>build();
+                });
+    }
+
+    @PostMapping(value = "/enrollments/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkEnrollmentResponse> bulkEnroll(@RequestBody List<EnrollmentRequest> enrollments) {
+        return ResponseEntity.ok(BulkEnrollmentResponse.of(bulkEnrollmentService.enroll(enrollments)));
+    }
+
+    // CSV upload with one "studentId,courseId" pair per line
+    @PostMapping(value = "/enrollments/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkEnrollmentResponse> bulkEnrollCsv(@RequestPart("file") MultipartFile file) throws IOException {
+        List<EnrollmentRequest> enrollments = bulkEnrollmentService.parseCsv(file.getInputStream());
+        return ResponseEntity.ok(BulkEnrollmentResponse.of(bulkEnrollmentService.enroll(enrollments)));
     }
 }
@@ -1,22 +1,29 @@
 package com.ascent.coursebuddybackend.Controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
+import com.ascent.coursebuddybackend.Service.LoginRateLimiter;
 import com.ascent.coursebuddybackend.Service.UserService;
 import com.ascent.coursebuddybackend.config.RegistrationResponse;
 import com.ascent.coursebuddybackend.entity.Users;
 
+import jakarta.servlet.http.HttpServletRequest;
+
 @RestController
 @RequestMapping("/api/auth")
 public class UserController {
     @Autowired
     private UserService userService;
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
     @PostMapping("/register")
     public ResponseEntity<RegistrationResponse> register(@RequestBody Users user) {
         RegistrationResponse response = userService.register(user);
@@ -24,7 +31,15 @@ public class UserController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody Users user) {
+    public ResponseEntity<?> login(@RequestBody Users user, HttpServletRequest request) {
+        // Behind a reverse proxy, set server.forward-headers-strategy so this is the client address
+        long retryAfter = loginRateLimiter.check(request.getRemoteAddr(), user.getUsername());
+        if (retryAfter > 0) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                    .body(new RegistrationResponse(null, null, null,
+                            "Too many login attempts; retry in " + retryAfter + " seconds"));
+        }
         try {
             String token = userService.verify(user);
             if ("Invalid Credentials".equals(token)) {
@@ -39,6 +54,9 @@ public class UserController {
                 "Login successful"
             );
             return ResponseEntity.ok(response);
+        } catch (ResponseStatusException e) {
+            // e.g. 503 when the password hashing queue is full
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(new RegistrationResponse(null, null, null, "Login failed: " + e.getMessage()));
@@ -0,0 +1,98 @@
+package com.ascent.coursebuddybackend.Service;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// Small read-through cache with a size bound, a time-to-live and hit/miss
+// counters. Values should be immutable since they are shared between threads.
+// Loader exceptions propagate and nothing is cached for that key.
+public class BoundedTtlCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    // Bumped on every invalidation so a load that raced with a write is not
+    // put back into the cache with the old value.
+    private final AtomicLong generation = new AtomicLong();
+
+    public BoundedTtlCache(int maxSize, Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long now = System.nanoTime();
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.expiresAt() - now > 0) {
+            hits.increment();
+            return entry.value();
+        }
+
+        misses.increment();
+        long loadGeneration = generation.get();
+        V value = loader.apply(key);
+        if (value != null && maxSize > 0 && generation.get() == loadGeneration) {
+            if (entry == null && entries.size() >= maxSize) {
+                evict(now);
+            }
+            entries.put(key, new Entry<>(value, now + ttlNanos));
+        }
+        return value;
+    }
+
+    public void invalidate(K key) {
+        generation.incrementAndGet();
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public Map<String, Object> getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        return Map.of(
+                "size", entries.size(),
+                "maxSize", maxSize,
+                "ttlSeconds", Duration.ofNanos(ttlNanos).toSeconds(),
+                "hits", hitCount,
+                "misses", missCount,
+                "evictions", evictions.sum(),
+                "hitRatio", total == 0 ? 0.0 : (double) hitCount / total
+        );
+    }
+
+    // Drop expired entries first; if the cache is still full, drop entries in
+    // iteration order until there is room again.
+    private void evict(long now) {
+        entries.entrySet().removeIf(e -> {
+            boolean expired = e.getValue().expiresAt() - now <= 0;
+            if (expired) {
+                evictions.increment();
+            }
+            return expired;
+        });
+
+        Iterator<K> keys = entries.keySet().iterator();
+        while (entries.size() >= maxSize && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+            evictions.increment();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
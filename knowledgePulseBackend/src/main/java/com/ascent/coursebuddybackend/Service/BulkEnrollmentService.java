@@ -0,0 +1,262 @@
+package com.ascent.coursebuddybackend.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.ascent.coursebuddybackend.dto.BulkEnrollmentResult;
+import com.ascent.coursebuddybackend.dto.BulkEnrollmentResult.Status;
+import com.ascent.coursebuddybackend.dto.EnrollmentRequest;
+import com.ascent.coursebuddybackend.entity.Enrollment;
+import com.ascent.coursebuddybackend.entity.EnrollmentId;
+import com.ascent.coursebuddybackend.entity.OutboxEvent;
+import com.ascent.coursebuddybackend.repository.CourseRepository;
+import com.ascent.coursebuddybackend.repository.EnrollmentRepository;
+import com.ascent.coursebuddybackend.repository.StudentRepository;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+
+// Enrolls many (studentId, courseId) pairs at once. Rows are processed in
+// chunks, each in its own transaction: existence and duplicate checks are one
+// query per chunk, and the new student_courses rows go out as JDBC batches
+// (hibernate.jdbc.batch_size). Seats are reserved with one conditional update
+// per course per chunk; rows that do not fit are reported as COURSE_FULL
+// rather than waitlisted. If a chunk fails to commit, its rows are retried
+// one at a time so a single bad row cannot sink its neighbours.
+@Service
+@Timed("app.service")
+public class BulkEnrollmentService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkEnrollmentService.class);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private SeatReservationService seatReservationService;
+
+    @Autowired
+    private CourseStatsService courseStatsService;
+
+    @Autowired
+    private CourseRankingService courseRankingService;
+
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+
+    // Each chunk binds up to 2 x chunk-size ids; SQL Server allows 2100 parameters
+    @Value("${app.enrollment.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.enrollment.bulk.max-rows:10000}")
+    private int maxRows;
+
+    public List<BulkEnrollmentResult> enroll(List<EnrollmentRequest> requests) {
+        if (requests.size() > maxRows) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "At most " + maxRows + " enrollments can be submitted at once");
+        }
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        BulkEnrollmentResult[] results = new BulkEnrollmentResult[requests.size()];
+        Set<EnrollmentId> seen = new HashSet<>();
+        for (int start = 0; start < requests.size(); start += chunkSize) {
+            int end = Math.min(start + chunkSize, requests.size());
+            List<Integer> rows = new ArrayList<>();
+            for (int row = start; row < end; row++) {
+                if (validate(requests, row, seen, results)) {
+                    rows.add(row);
+                }
+            }
+            if (rows.isEmpty()) {
+                continue;
+            }
+
+            try {
+                transaction.executeWithoutResult(status -> insertChunk(requests, rows, results));
+            } catch (RuntimeException e) {
+                for (int row : rows) {
+                    try {
+                        transaction.executeWithoutResult(status -> insertChunk(requests, List.of(row), results));
+                    } catch (RuntimeException rowFailure) {
+                        results[row] = rowFailed(row, requests.get(row), rowFailure);
+                    }
+                }
+            } finally {
+                entityManager.clear();
+            }
+        }
+        return List.of(results);
+    }
+
+    // Reads "studentId,courseId" lines; a non-numeric first line is treated as a header
+    public List<EnrollmentRequest> parseCsv(InputStream csv) throws IOException {
+        List<EnrollmentRequest> requests = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            String line;
+            boolean first = true;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] columns = line.split(",");
+                Long studentId = parseId(columns, 0);
+                Long courseId = parseId(columns, 1);
+                boolean header = first && studentId == null && courseId == null;
+                first = false;
+                if (header) {
+                    continue;
+                }
+                if (requests.size() >= maxRows) {
+                    throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                            "At most " + maxRows + " enrollments can be submitted at once");
+                }
+                requests.add(new EnrollmentRequest(studentId, courseId));
+            }
+        }
+        return requests;
+    }
+
+    private boolean validate(List<EnrollmentRequest> requests, int row, Set<EnrollmentId> seen,
+                             BulkEnrollmentResult[] results) {
+        EnrollmentRequest request = requests.get(row);
+        if (request == null || request.studentId() == null || request.courseId() == null) {
+            results[row] = new BulkEnrollmentResult(row, request == null ? null : request.studentId(),
+                    request == null ? null : request.courseId(), Status.INVALID, "studentId and courseId are required");
+            return false;
+        }
+        if (!seen.add(new EnrollmentId(request.studentId(), request.courseId()))) {
+            results[row] = new BulkEnrollmentResult(row, request.studentId(), request.courseId(),
+                    Status.DUPLICATE_ROW, "Same enrollment appears earlier in this request");
+            return false;
+        }
+        return true;
+    }
+
+    // Runs inside a transaction; fills in a result for every row it is given
+    private void insertChunk(List<EnrollmentRequest> requests, List<Integer> rows, BulkEnrollmentResult[] results) {
+        Set<Long> studentIds = new HashSet<>();
+        Set<Long> courseIds = new HashSet<>();
+        for (int row : rows) {
+            studentIds.add(requests.get(row).studentId());
+            courseIds.add(requests.get(row).courseId());
+        }
+        Set<Long> existingStudents = studentRepository.findExistingIds(studentIds);
+        Set<Long> existingCourses = courseRepository.findExistingIds(courseIds);
+        Set<EnrollmentId> existingEnrollments = new HashSet<>(enrollmentRepository.findExisting(studentIds, courseIds));
+
+        // course id -> rows that passed the checks and still need a seat
+        Map<Long, List<Integer>> pending = new LinkedHashMap<>();
+        for (int row : rows) {
+            EnrollmentRequest request = requests.get(row);
+            Status status;
+            if (!existingStudents.contains(request.studentId())) {
+                status = Status.STUDENT_NOT_FOUND;
+            } else if (!existingCourses.contains(request.courseId())) {
+                status = Status.COURSE_NOT_FOUND;
+            } else if (existingEnrollments.contains(new EnrollmentId(request.studentId(), request.courseId()))) {
+                status = Status.ALREADY_ENROLLED;
+            } else {
+                pending.computeIfAbsent(request.courseId(), id -> new ArrayList<>()).add(row);
+                continue;
+            }
+            results[row] = new BulkEnrollmentResult(row, request.studentId(), request.courseId(), status, null);
+        }
+
+        pending.forEach((courseId, courseRows) -> {
+            int granted = reserveSeats(courseId, courseRows.size());
+            for (int i = 0; i < courseRows.size(); i++) {
+                int row = courseRows.get(i);
+                EnrollmentRequest request = requests.get(row);
+                Status status = Status.COURSE_FULL;
+                if (i < granted) {
+                    entityManager.persist(new Enrollment(request.studentId(), courseId));
+                    domainEventPublisher.publish(OutboxEvent.Type.STUDENT_ENROLLED, request.studentId(), courseId);
+                    status = Status.ENROLLED;
+                }
+                results[row] = new BulkEnrollmentResult(row, request.studentId(), courseId, status, null);
+            }
+            seatReservationService.invalidateAfterCommit(courseId);
+            if (granted > 0) {
+                courseStatsService.enrollmentsAddedAfterCommit(courseId, granted);
+                courseRankingService.recordEnrollmentsAfterCommit(courseId, granted);
+            }
+        });
+        entityManager.flush();
+    }
+
+    // Row failures are reported by kind only; the exception text (SQL,
+    // constraint and table names) stays in the server log. Seat shortages never
+    // get here: reserveSeats reports them as COURSE_FULL without failing.
+    private BulkEnrollmentResult rowFailed(int row, EnrollmentRequest request, RuntimeException failure) {
+        if (ConflictRetry.isDuplicateKey(failure)) {
+            // Enrolled concurrently by another request since the existence check
+            return new BulkEnrollmentResult(row, request.studentId(), request.courseId(),
+                    Status.ALREADY_ENROLLED, null);
+        }
+        if (failure instanceof ConcurrencyFailureException) {
+            log.warn("Bulk enrollment row {} ({} -> {}) lost a concurrent update",
+                    row, request.studentId(), request.courseId(), failure);
+            return new BulkEnrollmentResult(row, request.studentId(), request.courseId(),
+                    Status.FAILED, "Conflicted with a concurrent update; please retry this row");
+        }
+        log.error("Bulk enrollment row {} ({} -> {}) failed", row, request.studentId(), request.courseId(), failure);
+        return new BulkEnrollmentResult(row, request.studentId(), request.courseId(),
+                Status.FAILED, "Could not be enrolled");
+    }
+
+    // Takes all seats in one update when they fit, otherwise as many as remain
+    private int reserveSeats(Long courseId, int wanted) {
+        if (courseRepository.reserveSeats(courseId, wanted) == 1) {
+            return wanted;
+        }
+        int granted = 0;
+        while (granted < wanted && courseRepository.reserveSeats(courseId, 1) == 1) {
+            granted++;
+        }
+        return granted;
+    }
+
+    private static Long parseId(String[] columns, int index) {
+        if (columns.length <= index) {
+            return null;
+        }
+        try {
+            return Long.valueOf(columns[index].trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
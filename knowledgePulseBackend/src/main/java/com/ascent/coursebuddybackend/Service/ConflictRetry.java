@@ -0,0 +1,88 @@
+package com.ascent.coursebuddybackend.Service;
+
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+// Re-runs a transactional service call that lost a race: an optimistic lock
+// failure on a row the call re-reads, a deadlock/lock timeout, or a unique or
+// primary key violation from a concurrent insert of the same row. Other
+// integrity violations are real errors and are not retried. Edits checked
+// against a client-supplied version (student and course updates) must not go
+// through here: their conflict is the answer, and a retry would just apply
+// the stale copy again. The call must start its own transaction, so this is
+// used from controllers, never from inside a @Transactional method. After the
+// last attempt the caller gets a 409 it can retry, not a 500.
+@Component
+public class ConflictRetry {
+
+    private static final int SQL_SERVER_UNIQUE_CONSTRAINT = 2627;
+    private static final int SQL_SERVER_UNIQUE_INDEX = 2601;
+
+    @Value("${app.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${app.retry.backoff-ms:10}")
+    private long backoffMillis;
+
+    public <T> T execute(Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+                if (e instanceof DataIntegrityViolationException && !isDuplicateKey(e)) {
+                    throw e;
+                }
+                if (attempt >= maxAttempts) {
+                    throw new ResponseStatusException(HttpStatus.CONFLICT,
+                            "The request conflicted with a concurrent update; please retry", e);
+                }
+                backOff(attempt);
+            }
+        }
+    }
+
+    public void run(Runnable action) {
+        execute(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    // Through JPA a duplicate key arrives as a plain
+    // DataIntegrityViolationException; the cause tells it apart from null,
+    // foreign key and check constraint failures
+    static boolean isDuplicateKey(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE) {
+                return true;
+            }
+            if (cause instanceof SQLException sql
+                    && (sql.getErrorCode() == SQL_SERVER_UNIQUE_CONSTRAINT
+                        || sql.getErrorCode() == SQL_SERVER_UNIQUE_INDEX)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Linear backoff with jitter so colliding requests do not retry in lockstep
+    private void backOff(int attempt) {
+        long delay = backoffMillis * attempt + ThreadLocalRandom.current().nextLong(backoffMillis + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Interrupted while retrying", e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.ascent.coursebuddybackend.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.stereotype.Service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+// Point-in-time view of the JDBC pool next to the Tomcat thread limit, for
+// sizing one against the other. Latency histograms for connection acquire
+// and usage are published by Micrometer as hikaricp.connections.*.
+@Service
+public class ConnectionPoolService {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ServerProperties serverProperties;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        int tomcatMaxThreads = serverProperties.getTomcat().getThreads().getMax();
+        stats.put("virtualThreads", virtualThreads);
+        stats.put("tomcatMaxThreads", tomcatMaxThreads);
+        if (!(dataSource instanceof HikariDataSource hikari)) {
+            stats.put("pool", dataSource.getClass().getName());
+            return stats;
+        }
+
+        stats.put("poolName", hikari.getPoolName());
+        stats.put("maximumPoolSize", hikari.getMaximumPoolSize());
+        stats.put("minimumIdle", hikari.getMinimumIdle());
+        stats.put("connectionTimeoutMillis", hikari.getConnectionTimeout());
+        stats.put("leakDetectionThresholdMillis", hikari.getLeakDetectionThreshold());
+        stats.put("statementCacheSize", hikari.getDataSourceProperties().getProperty("statementPoolingCacheSize", "0"));
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool != null) {
+            stats.put("active", pool.getActiveConnections());
+            stats.put("idle", pool.getIdleConnections());
+            stats.put("total", pool.getTotalConnections());
+            // Requests currently blocked waiting for a connection
+            stats.put("pending", pool.getThreadsAwaitingConnection());
+        }
+        // With virtual threads Tomcat has no thread cap; the pool is the only bound
+        if (!virtualThreads) {
+            stats.put("threadsPerConnection", (double) tomcatMaxThreads / hikari.getMaximumPoolSize());
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,80 @@
+package com.ascent.coursebuddybackend.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ascent.coursebuddybackend.dto.CourseDto;
+import com.ascent.coursebuddybackend.entity.ResourceNotFoundException;
+import com.ascent.coursebuddybackend.repository.CourseRepository;
+
+import jakarta.annotation.PostConstruct;
+
+// Read-through cache for the public course catalog and course detail lookups.
+// Holds immutable CourseDto values only, never managed entities. CourseService
+// invalidates the affected entries once a course write commits.
+@Component
+public class CourseCatalogCache {
+
+    private static final String CATALOG_KEY = "all";
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Value("${app.cache.courses.max-size:1000}")
+    private int maxSize;
+
+    @Value("${app.cache.courses.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    private BoundedTtlCache<String, List<CourseDto>> catalog;
+    private BoundedTtlCache<Long, CourseDto> byId;
+
+    @PostConstruct
+    void init() {
+        catalog = new BoundedTtlCache<>(1, Duration.ofSeconds(ttlSeconds));
+        byId = new BoundedTtlCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    public List<CourseDto> getAllCourses() {
+        return catalog.get(CATALOG_KEY, key -> courseRepository.findAll().stream().map(CourseDto::from).toList());
+    }
+
+    public CourseDto getCourse(Long id) {
+        return byId.get(id, key -> courseRepository.findById(key)
+                .map(CourseDto::from)
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found with id: " + key)));
+    }
+
+    // Evicts the course and the catalog list once the current transaction commits
+    public void invalidateAfterCommit(Long courseId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(courseId);
+                }
+            });
+        } else {
+            invalidate(courseId);
+        }
+    }
+
+    public void invalidate(Long courseId) {
+        byId.invalidate(courseId);
+        catalog.invalidateAll();
+    }
+
+    public Map<String, Object> getStats() {
+        return Map.of(
+                "catalog", catalog.getStats(),
+                "courses", byId.getStats()
+        );
+    }
+}
@@ -0,0 +1,183 @@
+package com.ascent.coursebuddybackend.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ascent.coursebuddybackend.dto.CourseDto;
+import com.ascent.coursebuddybackend.dto.CourseStats;
+import com.ascent.coursebuddybackend.dto.DailyEnrollmentCount;
+import com.ascent.coursebuddybackend.entity.ResourceNotFoundException;
+import com.ascent.coursebuddybackend.repository.CourseRepository;
+import com.ascent.coursebuddybackend.repository.EnrollmentRepository;
+
+import jakarta.annotation.PostConstruct;
+
+// Popular and featured courses, ranked by recent enrollment velocity: every
+// enrollment adds to its course's score, and older enrollments count for
+// exponentially less (half-life app.ranking.half-life-hours). The top K, and
+// the K newest courses used to fill the lists when there has been little
+// enrollment activity, are kept in memory, so a home-page request costs O(K)
+// lookups and never aggregates student_courses or sorts the catalog.
+@Service
+public class CourseRankingService {
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private CourseCatalogCache courseCatalogCache;
+
+    @Autowired
+    private CourseStatsService courseStatsService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Value("${app.ranking.top-k:50}")
+    private int topK;
+
+    @Value("${app.ranking.half-life-hours:72}")
+    private long halfLifeHours;
+
+    @Value("${app.ranking.featured-size:6}")
+    private int featuredSize;
+
+    private DecayingTopK ranking;
+    // Newest first, at most topK; replaced as a whole, never modified in place
+    private volatile List<Long> newest = List.of();
+
+    @PostConstruct
+    void init() {
+        ranking = new DecayingTopK(topK, Duration.ofHours(halfLifeHours).toMillis(), System.currentTimeMillis());
+    }
+
+    // Seeds the ranking from recent enrollments; older ones would contribute
+    // less than 1/16 of a fresh enrollment
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        LocalDate since = LocalDate.now().minusDays(Duration.ofHours(halfLifeHours * 4).toDays() + 1);
+        ZoneId zone = ZoneId.systemDefault();
+        for (DailyEnrollmentCount count : enrollmentRepository.countByCourseAndDaySince(since.atStartOfDay())) {
+            long dayMillis = count.day().atTime(LocalTime.NOON).atZone(zone).toInstant().toEpochMilli();
+            ranking.record(count.courseId(), Math.min(dayMillis, System.currentTimeMillis()), count.enrollments());
+        }
+        reloadNewest();
+    }
+
+    public void recordEnrollmentsAfterCommit(Long courseId, int count) {
+        afterCommit(() -> ranking.record(courseId, System.currentTimeMillis(), count));
+    }
+
+    // A new course is always the newest, so it goes to the front
+    public void courseCreatedAfterCommit(Long courseId) {
+        afterCommit(() -> addNewest(courseId));
+    }
+
+    // Deletes are rare, so the newest list is simply re-read to refill it
+    public void removeCourseAfterCommit(Long courseId) {
+        afterCommit(() -> {
+            ranking.remove(courseId);
+            if (newest.contains(courseId)) {
+                reloadNewest();
+            }
+        });
+    }
+
+    public List<CourseDto> getPopular(int limit) {
+        return collect(Math.min(limit, topK), course -> true);
+    }
+
+    // Popular courses that still have seats
+    public List<CourseDto> getFeatured() {
+        return collect(featuredSize, course -> {
+            CourseStats stats = courseStatsService.getCourseStats(course.id());
+            return stats.seatsRemaining() == null || stats.seatsRemaining() > 0;
+        });
+    }
+
+    // Walks the ranking, then tops up with the newest courses when there has
+    // not been enough recent enrollment activity to fill the list
+    private List<CourseDto> collect(int limit, Predicate<CourseDto> include) {
+        List<CourseDto> result = new ArrayList<>(limit);
+        Set<Long> seen = new HashSet<>();
+        for (Long courseId : ranking.top(topK)) {
+            if (result.size() >= limit) {
+                return result;
+            }
+            CourseDto course = findCourse(courseId);
+            if (course != null && include.test(course)) {
+                result.add(course);
+                seen.add(courseId);
+            }
+        }
+        for (Long courseId : newest) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (seen.contains(courseId)) {
+                continue;
+            }
+            CourseDto course = findCourse(courseId);
+            if (course != null && include.test(course)) {
+                result.add(course);
+            }
+        }
+        return result;
+    }
+
+    private synchronized void addNewest(Long courseId) {
+        List<Long> updated = new ArrayList<>(topK);
+        updated.add(courseId);
+        for (Long id : newest) {
+            if (updated.size() >= topK) {
+                break;
+            }
+            if (!id.equals(courseId)) {
+                updated.add(id);
+            }
+        }
+        newest = List.copyOf(updated);
+    }
+
+    private synchronized void reloadNewest() {
+        newest = List.copyOf(courseRepository.findNewestIds(PageRequest.of(0, topK)));
+    }
+
+    private CourseDto findCourse(Long courseId) {
+        try {
+            return courseCatalogCache.getCourse(courseId);
+        } catch (ResourceNotFoundException e) {
+            // Deleted since it was ranked
+            return null;
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
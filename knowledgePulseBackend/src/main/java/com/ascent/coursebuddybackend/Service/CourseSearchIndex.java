@@ -0,0 +1,279 @@
+package com.ascent.coursebuddybackend.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ascent.coursebuddybackend.dto.CourseDto;
+import com.ascent.coursebuddybackend.entity.Course;
+import com.ascent.coursebuddybackend.entity.RatingHistogram;
+import com.ascent.coursebuddybackend.repository.CourseRepository;
+
+// In-memory inverted index over course code, name, instructor and description.
+// Built once at startup and then kept current by CourseService (and by
+// ReviewService for the rating in each hit), so searches never scan the
+// courses table. Terms live in a sorted map so a query prefix
+// can be expanded to every indexed term that starts with it (type-ahead).
+@Component
+public class CourseSearchIndex {
+
+    private static final float CODE_WEIGHT = 4f;
+    private static final float NAME_WEIGHT = 3f;
+    private static final float INSTRUCTOR_WEIGHT = 2f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+    // Prefix matches score lower than whole-word matches
+    private static final float PREFIX_PENALTY = 0.5f;
+    // Upper bound on terms a single prefix may expand to
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // term -> (course id -> field-weighted term frequency)
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final Map<Long, Set<String>> termsByCourse = new HashMap<>();
+    private final Map<Long, CourseDto> courses = new HashMap<>();
+
+    private final LongAdder queryCount = new LongAdder();
+    private final LongAdder queryNanos = new LongAdder();
+    private final AtomicLong maxQueryNanos = new AtomicLong();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<CourseDto> all = courseRepository.findAll().stream().map(CourseDto::from).toList();
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            termsByCourse.clear();
+            courses.clear();
+            all.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Applies the change once the surrounding transaction commits, so a rolled
+    // back write never shows up in search results
+    public void indexAfterCommit(Course course) {
+        CourseDto dto = CourseDto.from(course);
+        afterCommit(() -> index(dto));
+    }
+
+    public void removeAfterCommit(Long courseId) {
+        afterCommit(() -> remove(courseId));
+    }
+
+    // Review writes change only the rating buckets, through a bulk update; the
+    // committed buckets are re-read so concurrent reviews cannot leave an older
+    // average behind
+    public void ratingsChangedAfterCommit(Long courseId) {
+        afterCommit(() -> courseRepository.findRatings(courseId)
+                .ifPresent(ratings -> updateRatings(courseId, ratings)));
+    }
+
+    public void index(CourseDto course) {
+        lock.writeLock().lock();
+        try {
+            removeTerms(course.id());
+            add(course);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void updateRatings(Long courseId, RatingHistogram ratings) {
+        lock.writeLock().lock();
+        try {
+            courses.computeIfPresent(courseId, (id, course) -> course.withRatings(ratings));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long courseId) {
+        lock.writeLock().lock();
+        try {
+            removeTerms(courseId);
+            courses.remove(courseId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Every query term must match a course (exactly or as a prefix). Courses are
+    // ranked by the sum of field-weighted, idf-scaled term scores.
+    public List<CourseDto> search(String query, int limit) {
+        long start = System.nanoTime();
+        try {
+            List<String> queryTerms = tokenize(query);
+            if (queryTerms.isEmpty() || limit <= 0) {
+                return List.of();
+            }
+
+            lock.readLock().lock();
+            try {
+                Map<Long, Float> scores = null;
+                for (String term : new LinkedHashSet<>(queryTerms)) {
+                    Map<Long, Float> termScores = scoreTerm(term);
+                    if (scores == null) {
+                        scores = termScores;
+                    } else {
+                        scores.keySet().retainAll(termScores.keySet());
+                        scores.replaceAll((id, score) -> score + termScores.get(id));
+                    }
+                    if (scores.isEmpty()) {
+                        return List.of();
+                    }
+                }
+
+                List<Map.Entry<Long, Float>> ranked = new ArrayList<>(scores.entrySet());
+                ranked.sort(Map.Entry.<Long, Float>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()));
+                List<CourseDto> results = new ArrayList<>(Math.min(limit, ranked.size()));
+                for (int i = 0; i < ranked.size() && results.size() < limit; i++) {
+                    results.add(courses.get(ranked.get(i).getKey()));
+                }
+                return results;
+            } finally {
+                lock.readLock().unlock();
+            }
+        } finally {
+            recordLatency(System.nanoTime() - start);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long count = queryCount.sum();
+        lock.readLock().lock();
+        try {
+            return Map.of(
+                    "courses", courses.size(),
+                    "terms", postings.size(),
+                    "queries", count,
+                    "avgLatencyMicros", count == 0 ? 0.0 : queryNanos.sum() / 1000.0 / count,
+                    "maxLatencyMicros", maxQueryNanos.get() / 1000.0
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Float> scoreTerm(String term) {
+        Map<Long, Float> termScores = new HashMap<>();
+        int expansions = 0;
+        for (Map.Entry<String, Map<Long, Float>> entry
+                : postings.subMap(term, true, term + Character.MAX_VALUE, false).entrySet()) {
+            if (expansions++ >= MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            Map<Long, Float> postingList = entry.getValue();
+            float idf = (float) Math.log(1 + (double) courses.size() / postingList.size());
+            float factor = entry.getKey().equals(term) ? idf : idf * PREFIX_PENALTY;
+            for (Map.Entry<Long, Float> posting : postingList.entrySet()) {
+                // A course keeps its best-matching expansion for this query term
+                termScores.merge(posting.getKey(), posting.getValue() * factor, Math::max);
+            }
+        }
+        return termScores;
+    }
+
+    // Callers hold the write lock
+    private void add(CourseDto course) {
+        Map<String, Float> weights = new HashMap<>();
+        addField(weights, course.courseCode(), CODE_WEIGHT);
+        addCompactCode(weights, course.courseCode());
+        addField(weights, course.courseName(), NAME_WEIGHT);
+        addField(weights, course.instructor(), INSTRUCTOR_WEIGHT);
+        addField(weights, course.description(), DESCRIPTION_WEIGHT);
+
+        weights.forEach((term, weight) ->
+                postings.computeIfAbsent(term, t -> new HashMap<>()).put(course.id(), weight));
+        termsByCourse.put(course.id(), new HashSet<>(weights.keySet()));
+        courses.put(course.id(), course);
+    }
+
+    // Callers hold the write lock
+    private void removeTerms(Long courseId) {
+        Set<String> terms = termsByCourse.remove(courseId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Float> postingList = postings.get(term);
+            if (postingList != null) {
+                postingList.remove(courseId);
+                if (postingList.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private void addField(Map<String, Float> weights, String value, float weight) {
+        for (String term : tokenize(value)) {
+            weights.merge(term, weight, Float::sum);
+        }
+    }
+
+    // Codes like "CS-101" are also indexed whole so "cs101" finds them
+    private void addCompactCode(Map<String, Float> weights, String courseCode) {
+        if (courseCode == null) {
+            return;
+        }
+        String compact = courseCode.toLowerCase().replaceAll("[^\\p{L}\\p{N}]", "");
+        if (!compact.isEmpty()) {
+            weights.putIfAbsent(compact, CODE_WEIGHT);
+        }
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        for (String token : text.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+
+    private void recordLatency(long nanos) {
+        queryCount.increment();
+        queryNanos.add(nanos);
+        maxQueryNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -1,25 +1,108 @@
 package com.ascent.coursebuddybackend.Service;
 
+import com.ascent.coursebuddybackend.dto.CourseDto;
+import com.ascent.coursebuddybackend.dto.CourseFilter;
+import com.ascent.coursebuddybackend.dto.PageResponse;
+import com.ascent.coursebuddybackend.dto.StudentDto;
 import com.ascent.coursebuddybackend.entity.Course;
+import com.ascent.coursebuddybackend.entity.OutboxEvent;
 import com.ascent.coursebuddybackend.entity.ResourceNotFoundException;
-import com.ascent.coursebuddybackend.entity.Student;
 import com.ascent.coursebuddybackend.repository.CourseRepository;
+import com.ascent.coursebuddybackend.repository.WaitlistRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+import io.micrometer.core.annotation.Timed;
 
 import java.util.List;
 import java.util.Set;
 
 @Service
+@Timed("app.service")
 @Transactional
 public class CourseService {
 
+    private static final Set<String> SORTABLE_FIELDS =
+            Set.of("id", "courseCode", "courseName", "credits", "instructor", "createdAt");
+
     @Autowired
     private CourseRepository courseRepository;
 
-    public List<Course> getAllCourses() {
-        return courseRepository.findAll();
+    @Autowired
+    private WaitlistRepository waitlistRepository;
+
+    @Autowired
+    private CourseSearchIndex courseSearchIndex;
+
+    @Autowired
+    private CourseCatalogCache courseCatalogCache;
+
+    @Autowired
+    private SeatReservationService seatReservationService;
+
+    @Autowired
+    private CourseStatsService courseStatsService;
+
+    @Autowired
+    private CourseRankingService courseRankingService;
+
+    @Autowired
+    private LessonService lessonService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+
+    // Cached read paths for the public catalog and course detail pages
+    public List<CourseDto> getCatalog() {
+        return courseCatalogCache.getAllCourses();
+    }
+
+    public CourseDto getCourseDto(Long id) {
+        return courseCatalogCache.getCourse(id);
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<CourseDto> getCoursePage(CourseFilter filter, int page, int size, String sort) {
+        PageRequest pageRequest = PageRequest.of(page, size, parseSort(sort));
+        return PageResponse.of(courseRepository.findCatalogPage(
+                filter.credits(), filter.instructorOrNull(), filter.courseCodeOrNull(), pageRequest
+        ).map(CourseDto::from));
+    }
+
+    // Keyset pagination by id; cursor is the last id of the previous page
+    @Transactional(readOnly = true)
+    public PageResponse<CourseDto> getCoursesAfter(CourseFilter filter, Long cursor, int size) {
+        Slice<Course> slice = courseRepository.findCatalogPageAfter(
+                filter.credits(), filter.instructorOrNull(), filter.courseCodeOrNull(),
+                cursor == null ? 0L : cursor, PageRequest.of(0, size));
+        List<CourseDto> content = slice.getContent().stream().map(CourseDto::from).toList();
+        Long nextCursor = content.isEmpty() ? null : content.get(content.size() - 1).id();
+        return PageResponse.ofKeyset(content, size, slice.hasNext(), nextCursor);
+    }
+
+    // Accepts "field" or "field,asc|desc"; only scalar catalog columns are allowed
+    private Sort parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.by("id");
+        }
+        String[] parts = sort.split(",");
+        String field = parts[0].trim();
+        if (!SORTABLE_FIELDS.contains(field)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cannot sort courses by: " + field);
+        }
+        Sort.Direction direction = parts.length > 1 && "desc".equalsIgnoreCase(parts[1].trim())
+                ? Sort.Direction.DESC : Sort.Direction.ASC;
+        // Tie-break on id so pages are stable when the sort key repeats
+        return field.equals("id") ? Sort.by(direction, "id") : Sort.by(direction, field).and(Sort.by("id"));
     }
 
     public Course getCourseById(Long id) {
@@ -29,28 +112,68 @@ public class CourseService {
     }
 
     public Course createCourse(Course course) {
-        return courseRepository.save(course);
+        Course savedCourse = courseRepository.save(course);
+        courseSearchIndex.indexAfterCommit(savedCourse);
+        courseCatalogCache.invalidateAfterCommit(savedCourse.getId());
+        courseStatsService.courseChangedAfterCommit(savedCourse);
+        courseRankingService.courseCreatedAfterCommit(savedCourse.getId());
+        domainEventPublisher.publish(OutboxEvent.Type.COURSE_CREATED, null, savedCourse.getId());
+        return savedCourse;
     }
 
+    // Checked against the version the client read: an edit made from a stale
+    // copy gets a 409 instead of overwriting a newer one
     public Course updateCourse(Long id, Course courseDetails) {
         Course course = getCourseById(id);
+        if (courseDetails.getVersion() != null && !courseDetails.getVersion().equals(course.getVersion())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "The course was changed by someone else; reload and try again");
+        }
 
         course.setCourseCode(courseDetails.getCourseCode());
         course.setCourseName(courseDetails.getCourseName());
         course.setDescription(courseDetails.getDescription());
         course.setCredits(courseDetails.getCredits());
         course.setInstructor(courseDetails.getInstructor());
+        course.setCapacity(courseDetails.getCapacity());
 
-        return courseRepository.save(course);
+        Course savedCourse;
+        try {
+            savedCourse = courseRepository.saveAndFlush(course);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "The course was changed by someone else; reload and try again", e);
+        }
+        courseSearchIndex.indexAfterCommit(savedCourse);
+        courseCatalogCache.invalidateAfterCommit(id);
+        seatReservationService.invalidateAfterCommit(id);
+        courseStatsService.courseChangedAfterCommit(savedCourse);
+        return savedCourse;
     }
 
     public void deleteCourse(Long id) {
         Course course = getCourseById(id);
+        lessonService.deleteLessonsForCourse(id);
+        reviewService.deleteReviewsForCourse(id);
+        waitlistRepository.deleteByCourse(id);
         courseRepository.delete(course);
+        courseSearchIndex.removeAfterCommit(id);
+        courseCatalogCache.invalidateAfterCommit(id);
+        seatReservationService.invalidateAfterCommit(id);
+        courseStatsService.courseRemovedAfterCommit(id);
+        courseRankingService.removeCourseAfterCommit(id);
+    }
+
+    public List<CourseDto> searchCourses(String query, int limit) {
+        return courseSearchIndex.search(query, limit);
     }
 
-    public Set<Student> getCourseStudents(Long courseId) {
-        Course course = getCourseById(courseId);
-        return course.getStudents();
+    @Transactional(readOnly = true)
+    public List<StudentDto> getCourseStudents(Long courseId) {
+        Course course = courseRepository.findWithStudentsById(courseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found with id: " + courseId));
+        return course.getStudents().stream()
+                .map(StudentDto::withoutCourses)
+                .toList();
     }
 }
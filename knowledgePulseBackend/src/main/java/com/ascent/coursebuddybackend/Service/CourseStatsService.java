@@ -0,0 +1,190 @@
+package com.ascent.coursebuddybackend.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ascent.coursebuddybackend.dto.CourseDto;
+import com.ascent.coursebuddybackend.dto.CourseEnrollmentCount;
+import com.ascent.coursebuddybackend.dto.CourseStats;
+import com.ascent.coursebuddybackend.dto.CourseStatsSummary;
+import com.ascent.coursebuddybackend.dto.DailyEnrollmentCount;
+import com.ascent.coursebuddybackend.entity.Course;
+import com.ascent.coursebuddybackend.repository.CourseRepository;
+import com.ascent.coursebuddybackend.repository.EnrollmentRepository;
+
+// Per-course enrollment counters held in memory. Enroll/unenroll paths adjust
+// them once their transaction commits, so reads never count rows; a periodic
+// reconciliation rebuilds them from student_courses to correct any drift
+// (other instances, manual SQL, a crash between commit and update). Between
+// reconciliations the figures are therefore exact for this instance's writes
+// and eventually consistent for everything else.
+@Service
+public class CourseStatsService {
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private CourseCatalogCache courseCatalogCache;
+
+    @Value("${app.stats.per-day-window-days:30}")
+    private int windowDays;
+
+    private final Map<Long, Counters> counters = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastReconciledAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.stats.reconcile-ms:300000}",
+            fixedDelayString = "${app.stats.reconcile-ms:300000}")
+    public void reconcile() {
+        LocalDate firstDay = firstDayOfWindow();
+        Map<Long, Counters> fresh = new HashMap<>();
+        for (Course course : courseRepository.findAll()) {
+            fresh.put(course.getId(), new Counters(CourseDto.from(course)));
+        }
+        for (CourseEnrollmentCount count : enrollmentRepository.countByCourse()) {
+            Counters courseCounters = fresh.get(count.courseId());
+            if (courseCounters != null) {
+                courseCounters.enrollments.add(count.enrollments());
+            }
+        }
+        for (DailyEnrollmentCount count : enrollmentRepository.countByCourseAndDaySince(firstDay.atStartOfDay())) {
+            Counters courseCounters = fresh.get(count.courseId());
+            if (courseCounters != null) {
+                courseCounters.day(count.day()).add(count.enrollments());
+            }
+        }
+
+        counters.keySet().retainAll(fresh.keySet());
+        counters.putAll(fresh);
+        lastReconciledAt = LocalDateTime.now();
+    }
+
+    public void enrollmentsAddedAfterCommit(Long courseId, int count) {
+        afterCommit(() -> {
+            Counters courseCounters = countersFor(courseId);
+            courseCounters.enrollments.add(count);
+            courseCounters.day(LocalDate.now()).add(count);
+        });
+    }
+
+    // enrolledAt is the removed row's enrollment time, so its day is decremented
+    public void enrollmentRemovedAfterCommit(Long courseId, LocalDateTime enrolledAt) {
+        afterCommit(() -> {
+            Counters courseCounters = countersFor(courseId);
+            courseCounters.enrollments.decrement();
+            if (enrolledAt != null) {
+                courseCounters.day(enrolledAt.toLocalDate()).decrement();
+            }
+        });
+    }
+
+    public void courseChangedAfterCommit(Course course) {
+        CourseDto dto = CourseDto.from(course);
+        afterCommit(() -> countersFor(dto.id()).course = dto);
+    }
+
+    public void courseRemovedAfterCommit(Long courseId) {
+        afterCommit(() -> counters.remove(courseId));
+    }
+
+    public CourseStats getCourseStats(Long courseId) {
+        Counters courseCounters = counters.get(courseId);
+        if (courseCounters == null || courseCounters.course == null) {
+            // Throws ResourceNotFoundException for unknown ids
+            CourseDto course = courseCatalogCache.getCourse(courseId);
+            courseCounters = countersFor(courseId);
+            courseCounters.course = course;
+        }
+        return snapshot(courseCounters, firstDayOfWindow());
+    }
+
+    public CourseStatsSummary getAllStats() {
+        LocalDate firstDay = firstDayOfWindow();
+        List<CourseStats> courses = counters.values().stream()
+                .filter(courseCounters -> courseCounters.course != null)
+                .map(courseCounters -> snapshot(courseCounters, firstDay))
+                .sorted(Comparator.comparing(CourseStats::courseId))
+                .toList();
+        long totalEnrollments = 0;
+        long totalCredits = 0;
+        for (CourseStats stats : courses) {
+            totalEnrollments += stats.enrollments();
+            totalCredits += stats.creditTotal();
+        }
+        return new CourseStatsSummary(courses.size(), totalEnrollments, totalCredits, courses, lastReconciledAt);
+    }
+
+    private Counters countersFor(Long courseId) {
+        return counters.computeIfAbsent(courseId, id -> new Counters(null));
+    }
+
+    private static CourseStats snapshot(Counters courseCounters, LocalDate firstDay) {
+        CourseDto course = courseCounters.course;
+        long enrollments = Math.max(0, courseCounters.enrollments.sum());
+        SortedMap<LocalDate, Long> perDay = new TreeMap<>();
+        courseCounters.perDay.forEach((day, count) -> {
+            long value = count.sum();
+            if (value > 0 && !day.isBefore(firstDay)) {
+                perDay.put(day, value);
+            }
+        });
+        Long seatsRemaining = course.capacity() == null ? null : Math.max(0, course.capacity() - enrollments);
+        long creditTotal = course.credits() == null ? 0 : course.credits() * enrollments;
+        return new CourseStats(course.id(), course.courseCode(), course.courseName(), course.credits(),
+                course.capacity(), enrollments, seatsRemaining, creditTotal, perDay);
+    }
+
+    private LocalDate firstDayOfWindow() {
+        return LocalDate.now().minusDays(windowDays - 1L);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static final class Counters {
+        // Null until the course details are known (an enrollment can arrive
+        // for a course created since the last reconciliation)
+        private volatile CourseDto course;
+        private final LongAdder enrollments = new LongAdder();
+        private final Map<LocalDate, LongAdder> perDay = new ConcurrentHashMap<>();
+
+        private Counters(CourseDto course) {
+            this.course = course;
+        }
+
+        private LongAdder day(LocalDate day) {
+            return perDay.computeIfAbsent(day, d -> new LongAdder());
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.ascent.coursebuddybackend.Service;
 import com.ascent.coursebuddybackend.entity.CustomUserDetails;
 import com.ascent.coursebuddybackend.entity.Users;
 import com.ascent.coursebuddybackend.repository.UserRepo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -11,16 +13,16 @@ import org.springframework.stereotype.Service;
 
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
+    private static final Logger log = LoggerFactory.getLogger(CustomUserDetailsService.class);
     @Autowired
     private UserRepo userRepo;
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 
         Users user = userRepo.findByUsername(username);
-        System.out.println("Username: " + username);
 
         if(user == null) {
-            System.out.println("Üser not found");
+            log.debug("User not found: {}", username);
             throw new UsernameNotFoundException("User not found with username: " + username);
         }
 
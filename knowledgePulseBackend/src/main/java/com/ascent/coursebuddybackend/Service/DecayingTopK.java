@@ -0,0 +1,110 @@
+package com.ascent.coursebuddybackend.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+// Keeps the K ids with the highest exponentially time-decayed event count.
+// Scores use forward decay: an event at time t adds exp(lambda * (t - landmark))
+// instead of every score being decayed as time passes. All scores shrink by
+// the same factor over time, so their order (and the top K) only changes when
+// an event arrives, and each event costs O(log K). The landmark is moved
+// forward before the exponent gets large enough to overflow.
+//
+// Writes are synchronized; reads return an immutable snapshot of the ranking
+// without locking.
+public class DecayingTopK {
+
+    private static final double MAX_EXPONENT = 500;
+    private static final Comparator<Ranked> ORDER =
+            Comparator.comparingDouble(Ranked::score).reversed().thenComparingLong(Ranked::id);
+
+    private final int k;
+    private final double lambdaPerMilli;
+
+    private final Map<Long, Double> scores = new HashMap<>();
+    private final TreeSet<Ranked> top = new TreeSet<>(ORDER);
+    private long landmarkMillis;
+    private volatile List<Long> ranking = List.of();
+
+    public DecayingTopK(int k, long halfLifeMillis, long nowMillis) {
+        this.k = k;
+        this.lambdaPerMilli = Math.log(2) / halfLifeMillis;
+        this.landmarkMillis = nowMillis;
+    }
+
+    public synchronized void record(long id, long atMillis, double weight) {
+        double exponent = lambdaPerMilli * (atMillis - landmarkMillis);
+        if (exponent > MAX_EXPONENT) {
+            rebase(atMillis);
+            exponent = 0;
+        }
+        Double previous = scores.get(id);
+        double updated = (previous == null ? 0 : previous) + weight * Math.exp(exponent);
+        scores.put(id, updated);
+
+        boolean wasTop = previous != null && top.remove(new Ranked(id, previous));
+        if (wasTop || top.size() < k || updated > top.last().score()) {
+            top.add(new Ranked(id, updated));
+            if (top.size() > k) {
+                top.pollLast();
+            }
+            publish();
+        }
+    }
+
+    public synchronized void remove(long id) {
+        Double previous = scores.remove(id);
+        if (previous != null && top.remove(new Ranked(id, previous))) {
+            // Promote the best id outside the top set; rare, so a scan is fine
+            Ranked best = null;
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                Ranked candidate = new Ranked(entry.getKey(), entry.getValue());
+                if (!top.contains(candidate) && (best == null || ORDER.compare(candidate, best) < 0)) {
+                    best = candidate;
+                }
+            }
+            if (best != null) {
+                top.add(best);
+            }
+            publish();
+        }
+    }
+
+    // Highest-scoring ids first; at most min(limit, K)
+    public List<Long> top(int limit) {
+        List<Long> current = ranking;
+        return current.subList(0, Math.min(Math.max(limit, 0), current.size()));
+    }
+
+    public synchronized int size() {
+        return scores.size();
+    }
+
+    // Re-expresses every score relative to a later landmark
+    private void rebase(long newLandmarkMillis) {
+        double factor = Math.exp(-lambdaPerMilli * (newLandmarkMillis - landmarkMillis));
+        scores.replaceAll((id, score) -> score * factor);
+        List<Ranked> rescaled = new ArrayList<>(top.size());
+        for (Ranked ranked : top) {
+            rescaled.add(new Ranked(ranked.id(), scores.get(ranked.id())));
+        }
+        top.clear();
+        top.addAll(rescaled);
+        landmarkMillis = newLandmarkMillis;
+    }
+
+    private void publish() {
+        List<Long> ids = new ArrayList<>(top.size());
+        for (Ranked ranked : top) {
+            ids.add(ranked.id());
+        }
+        ranking = List.copyOf(ids);
+    }
+
+    private record Ranked(long id, double score) {
+    }
+}
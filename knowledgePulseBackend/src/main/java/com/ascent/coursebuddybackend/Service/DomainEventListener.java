@@ -0,0 +1,16 @@
+package com.ascent.coursebuddybackend.Service;
+
+import java.util.List;
+
+import com.ascent.coursebuddybackend.dto.DomainEvent;
+
+// Receives committed domain events from OutboxDispatcher, a batch at a time in
+// id order, on the dispatcher's own thread. Delivery is at-least-once: after a
+// restart, from a second instance, or after any listener failed on the batch,
+// an event can arrive again, so implementations must tolerate duplicates. An
+// exception is logged and does not stop the batch from reaching the other
+// listeners; the batch stays undispatched and the sweep delivers it again.
+public interface DomainEventListener {
+
+    void onEvents(List<DomainEvent> events);
+}
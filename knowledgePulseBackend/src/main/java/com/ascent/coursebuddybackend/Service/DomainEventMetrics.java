@@ -0,0 +1,26 @@
+package com.ascent.coursebuddybackend.Service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.ascent.coursebuddybackend.dto.DomainEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Counts dispatched domain events by type (app.events.dispatched{type=...}),
+// e.g. enrollments per minute on the dashboards
+@Component
+public class DomainEventMetrics implements DomainEventListener {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            meterRegistry.counter("app.events.dispatched", "type", event.type().name()).increment();
+        }
+    }
+}
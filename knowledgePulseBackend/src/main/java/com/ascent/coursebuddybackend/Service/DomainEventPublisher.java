@@ -0,0 +1,36 @@
+package com.ascent.coursebuddybackend.Service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ascent.coursebuddybackend.dto.DomainEvent;
+import com.ascent.coursebuddybackend.entity.OutboxEvent;
+import com.ascent.coursebuddybackend.repository.OutboxEventRepository;
+
+// Write side of the outbox. The caller's transaction gets one extra insert per
+// event and nothing else: listeners run later on OutboxDispatcher's thread,
+// and a rolled back transaction takes its events with it.
+@Service
+public class DomainEventPublisher {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(OutboxEvent.Type type, Long studentId, Long courseId) {
+        DomainEvent event = DomainEvent.from(outboxEventRepository.save(new OutboxEvent(type, studentId, courseId)));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxDispatcher.enqueue(event);
+            }
+        });
+    }
+}
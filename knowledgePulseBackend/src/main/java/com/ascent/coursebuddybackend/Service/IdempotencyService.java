@@ -0,0 +1,121 @@
+package com.ascent.coursebuddybackend.Service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+// Idempotency-Key support: the first request with a given key runs, and its
+// successful response is replayed for every repeat of that key (per user)
+// until the key expires. A repeat that arrives while the first is still
+// running waits for its result. Failed requests are not remembered, so the
+// client can retry them with the same key. Keys are held in memory, so they
+// only deduplicate requests that reach the same instance.
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    @Value("${app.idempotency.ttl-seconds:86400}")
+    private long ttlSeconds;
+
+    @Value("${app.idempotency.max-keys:100000}")
+    private int maxKeys;
+
+    // How long a repeat waits for the in-flight original before answering 409
+    @Value("${app.idempotency.wait-millis:5000}")
+    private long waitMillis;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    // Runs the action once per (scope, key). The fingerprint describes the
+    // request; reusing a key for a different request is rejected with 422.
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> execute(String scope, String key, String fingerprint,
+                                         Supplier<ResponseEntity<T>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    HEADER + " must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+
+        long now = System.nanoTime();
+        String id = scope + '\n' + key;
+        Entry mine = new Entry(fingerprint, new CompletableFuture<>(), now + TimeUnit.SECONDS.toNanos(ttlSeconds));
+        Entry current = entries.compute(id, (k, existing) ->
+                existing == null || existing.expiresAt() - now <= 0 ? mine : existing);
+
+        if (current != mine) {
+            if (!current.fingerprint().equals(fingerprint)) {
+                throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                        HEADER + " was already used for a different request");
+            }
+            return (ResponseEntity<T>) replay(current);
+        }
+
+        if (entries.size() > maxKeys) {
+            evict(now);
+        }
+        try {
+            ResponseEntity<T> response = action.get();
+            mine.response().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            entries.remove(id, mine);
+            mine.response().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private ResponseEntity<?> replay(Entry entry) {
+        ResponseEntity<?> original;
+        try {
+            original = entry.response().get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "A request with this " + HEADER + " is still being processed");
+        } catch (ExecutionException e) {
+            // The original failed; hand the repeat the same failure
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Interrupted");
+        }
+        return ResponseEntity.status(original.getStatusCode())
+                .headers(original.getHeaders())
+                .header(REPLAYED_HEADER, "true")
+                .body(original.getBody());
+    }
+
+    // Drop expired keys first, then the oldest-iterated until under the bound
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.response().isDone() && entry.expiresAt() - now <= 0);
+        Iterator<Entry> it = entries.values().iterator();
+        while (entries.size() > maxKeys && it.hasNext()) {
+            if (it.next().response().isDone()) {
+                it.remove();
+            }
+        }
+    }
+
+    private record Entry(String fingerprint, CompletableFuture<ResponseEntity<?>> response, long expiresAt) {
+    }
+}
@@ -5,87 +5,123 @@ import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
 
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
 
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 
 @Service
 public class JWTService {
-    private String secretKey = "";
+    public static final long TOKEN_TTL_MILLIS = 60 * 60 * 1000 * 24; // 24 hours
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+    // The standard iat claim is in whole seconds; revocation needs the exact
+    // issue time to tell apart tokens minted just before and just after a
+    // password change
+    public static final String ISSUED_AT_MILLIS_CLAIM = "iatms";
+
+    // The key and parser are immutable and thread-safe, so they are built once
+    // instead of on every parse.
+    private final SecretKey key;
+    private final JwtParser parser;
+
     public JWTService() throws NoSuchAlgorithmException {
+        this(generateSecret());
+    }
+
+    JWTService(String secretKey) {
+        this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+    }
+
+    private static String generateSecret() throws NoSuchAlgorithmException {
         KeyGenerator keyGenerator = KeyGenerator.getInstance("HmacSHA256");
         SecretKey key = keyGenerator.generateKey();
-        secretKey = Base64.getEncoder().encodeToString(key.getEncoded());
+        return Base64.getEncoder().encodeToString(key.getEncoded());
     }
-    public String generateToken(String username, String role) {
+
+    public String generateToken(int userId, String username, String role) {
+        long now = System.currentTimeMillis();
         Map<String, Object> claims = new HashMap<>();
-        claims.put("role", role);
+        claims.put(ROLE_CLAIM, role);
+        claims.put(USER_ID_CLAIM, userId);
+        claims.put(ISSUED_AT_MILLIS_CLAIM, now);
         return Jwts.builder()
                 .claims()
                 .add(claims)
                 .subject(username)
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + 60 * 60 * 1000 * 24)) // 24 hours
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + TOKEN_TTL_MILLIS))
                 .and()
-                .signWith(getKey())
+                .signWith(key)
                 .compact();
 
     }
 
-    private SecretKey getKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    // Verifies the signature and expiry once and returns every claim, so callers
+    // can read subject, role and expiration without parsing the token again.
+    // Throws a JwtException if the token is malformed, tampered with or expired.
+    public Claims parseVerifiedClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    // Tokens issued before the millisecond claim existed fall back to iat;
+    // null if the token carries neither
+    public Long extractIssuedAtMillis(Claims claims) {
+        Long millis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+        if (millis != null) {
+            return millis;
+        }
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt == null ? null : issuedAt.getTime();
     }
 
-        // extract the username from jwt token
+    // extract the username from jwt token
     public String extractUserName(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return parseVerifiedClaims(token).getSubject();
     }
 
     //extract role from jwt
     public String extractRole(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.get("role", String.class);
+        return parseVerifiedClaims(token).get(ROLE_CLAIM, String.class);
     }
 
-
-    private <T> T extractClaim(String token, Function<Claims, T> claimResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimResolver.apply(claims);
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public boolean validateToken(String token, UserDetails userDetails) {
+        return isTokenValid(parseVerifiedClaims(token), userDetails);
     }
 
-    public boolean validateToken(String token, UserDetails userDetails) {
-        final String userName = extractUserName(token);
-        return (userName.equals(userDetails.getUsername()) && !isTokenExpired(token));
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername())
+                && !isTokenExpired(claims)
+                && hasRole(userDetails, claims.get(ROLE_CLAIM, String.class));
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    // A token minted before a role change no longer matches the principal.
+    private boolean hasRole(UserDetails userDetails, String role) {
+        if (role == null) {
+            return false;
+        }
+        String authority = "ROLE_" + role;
+        for (GrantedAuthority grantedAuthority : userDetails.getAuthorities()) {
+            if (authority.equals(grantedAuthority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
     }
 }
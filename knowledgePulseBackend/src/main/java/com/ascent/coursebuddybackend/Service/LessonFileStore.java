@@ -0,0 +1,134 @@
+package com.ascent.coursebuddybackend.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import jakarta.annotation.PostConstruct;
+
+// Lesson media and attachments on the local filesystem, one file per upload
+// under <storage-dir>/<first two key chars>/<key>. Uploads never pass through
+// the heap: the multipart part is moved (or streamed) to disk and hashed from
+// there. The database rows are the source of truth; a file whose row never
+// committed is removed again on rollback.
+@Service
+public class LessonFileStore {
+
+    private static final Logger log = LoggerFactory.getLogger(LessonFileStore.class);
+
+    private static final Pattern KEY = Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+
+    public record StoredFile(String key, long size, String sha256) {
+    }
+
+    @Value("${app.lessons.storage-dir:data/lesson-files}")
+    private String storageDir;
+
+    private Path root;
+
+    @PostConstruct
+    void init() throws IOException {
+        root = Paths.get(storageDir).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+    }
+
+    // Writes the upload to its final location; removed again if the
+    // surrounding transaction rolls back
+    public StoredFile store(MultipartFile upload) throws IOException {
+        String key = UUID.randomUUID().toString();
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path partial = target.resolveSibling(key + ".part");
+        try {
+            upload.transferTo(partial);
+            String sha256 = sha256(partial);
+            Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE);
+            StoredFile stored = new StoredFile(key, Files.size(target), sha256);
+            deleteOnRollback(key);
+            return stored;
+        } finally {
+            Files.deleteIfExists(partial);
+        }
+    }
+
+    public Path resolve(String key) {
+        if (key == null || !KEY.matcher(key).matches()) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        return root.resolve(key.substring(0, 2)).resolve(key);
+    }
+
+    public void deleteAfterCommit(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<String> copy = List.copyOf(keys);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    copy.forEach(LessonFileStore.this::delete);
+                }
+            });
+        } else {
+            copy.forEach(this::delete);
+        }
+    }
+
+    private void deleteOnRollback(String key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        delete(key);
+                    }
+                }
+            });
+        }
+    }
+
+    // A file that cannot be deleted only wastes disk space; nothing refers to it
+    private void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            log.warn("Could not delete lesson file {}", key, e);
+        }
+    }
+
+    private static String sha256(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,216 @@
+package com.ascent.coursebuddybackend.Service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.ascent.coursebuddybackend.dto.LessonDto;
+import com.ascent.coursebuddybackend.dto.LessonFileDto;
+import com.ascent.coursebuddybackend.entity.EnrollmentId;
+import com.ascent.coursebuddybackend.entity.Lesson;
+import com.ascent.coursebuddybackend.entity.LessonFile;
+import com.ascent.coursebuddybackend.entity.ResourceNotFoundException;
+import com.ascent.coursebuddybackend.entity.Users;
+import com.ascent.coursebuddybackend.repository.CourseRepository;
+import com.ascent.coursebuddybackend.repository.EnrollmentRepository;
+import com.ascent.coursebuddybackend.repository.LessonFileRepository;
+import com.ascent.coursebuddybackend.repository.LessonRepository;
+import com.ascent.coursebuddybackend.repository.StudentRepository;
+
+import io.micrometer.core.annotation.Timed;
+
+// Lessons of a course, kept in a contiguous 1..n order: inserting, moving or
+// deleting a lesson shifts its neighbours with one update. Lesson lists load
+// the lessons and all their files in two queries.
+@Service
+@Timed("app.service")
+@Transactional
+public class LessonService {
+
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    @Autowired
+    private LessonFileRepository lessonFileRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private LessonFileStore lessonFileStore;
+
+    @Transactional(readOnly = true)
+    public List<LessonDto> getLessons(Long courseId) {
+        requireCourse(courseId);
+        List<Lesson> lessons = lessonRepository.findByCourseIdOrderByPositionAscIdAsc(courseId);
+        if (lessons.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<LessonFileDto>> files = lessonFileRepository
+                .findByLessonIdInOrderByIdAsc(lessons.stream().map(Lesson::getId).toList()).stream()
+                .collect(Collectors.groupingBy(LessonFile::getLessonId,
+                        Collectors.mapping(file -> LessonFileDto.from(file, courseId), Collectors.toList())));
+        return lessons.stream()
+                .map(lesson -> LessonDto.from(lesson, files.getOrDefault(lesson.getId(), List.of())))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public LessonDto getLesson(Long courseId, Long lessonId) {
+        return toDto(requireLesson(courseId, lessonId));
+    }
+
+    public LessonDto createLesson(Long courseId, Lesson details) {
+        requireCourse(courseId);
+        int count = lessonRepository.countByCourse(courseId);
+        int position = clamp(details.getPosition(), count + 1);
+        if (position <= count) {
+            lessonRepository.shiftPositions(courseId, position, count, 1);
+        }
+
+        Lesson lesson = new Lesson();
+        lesson.setCourseId(courseId);
+        lesson.setPosition(position);
+        copyDetails(details, lesson);
+        return LessonDto.from(lessonRepository.save(lesson), List.of());
+    }
+
+    public LessonDto updateLesson(Long courseId, Long lessonId, Lesson details) {
+        Lesson lesson = requireLesson(courseId, lessonId);
+        if (details.getPosition() != null) {
+            int from = lesson.getPosition();
+            int to = clamp(details.getPosition(), lessonRepository.countByCourse(courseId));
+            if (to < from) {
+                lessonRepository.shiftPositions(courseId, to, from - 1, 1);
+            } else if (to > from) {
+                lessonRepository.shiftPositions(courseId, from + 1, to, -1);
+            }
+            lesson.setPosition(to);
+        }
+        copyDetails(details, lesson);
+        return toDto(lessonRepository.save(lesson));
+    }
+
+    public void deleteLesson(Long courseId, Long lessonId) {
+        Lesson lesson = requireLesson(courseId, lessonId);
+        List<Long> ids = List.of(lessonId);
+        lessonFileStore.deleteAfterCommit(lessonFileRepository.findStorageKeys(ids));
+        lessonFileRepository.deleteByLessons(ids);
+        lessonRepository.delete(lesson);
+        lessonRepository.flush();
+        lessonRepository.shiftPositions(courseId, lesson.getPosition() + 1, Integer.MAX_VALUE, -1);
+    }
+
+    // Called from CourseService.deleteCourse inside its transaction
+    public void deleteLessonsForCourse(Long courseId) {
+        List<Long> ids = lessonRepository.findIdsByCourse(courseId);
+        if (ids.isEmpty()) {
+            return;
+        }
+        lessonFileStore.deleteAfterCommit(lessonFileRepository.findStorageKeys(ids));
+        lessonFileRepository.deleteByLessons(ids);
+        lessonRepository.deleteByCourse(courseId);
+    }
+
+    public LessonFileDto addFile(Long courseId, Long lessonId, LessonFile.Kind kind, MultipartFile upload)
+            throws IOException {
+        requireLesson(courseId, lessonId);
+        if (upload.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "File is empty");
+        }
+
+        LessonFileStore.StoredFile stored = lessonFileStore.store(upload);
+        LessonFile file = new LessonFile();
+        file.setLessonId(lessonId);
+        file.setKind(kind);
+        file.setFileName(fileName(upload));
+        file.setContentType(upload.getContentType() == null ? "application/octet-stream" : upload.getContentType());
+        file.setSize(stored.size());
+        file.setSha256(stored.sha256());
+        file.setStorageKey(stored.key());
+        return LessonFileDto.from(lessonFileRepository.save(file), courseId);
+    }
+
+    public void deleteFile(Long courseId, Long lessonId, Long fileId) {
+        requireLesson(courseId, lessonId);
+        LessonFile file = lessonFileRepository.findByIdAndLessonId(fileId, lessonId)
+                .orElseThrow(() -> new ResourceNotFoundException("Lesson file not found with id: " + fileId));
+        lessonFileRepository.delete(file);
+        lessonFileStore.deleteAfterCommit(List.of(file.getStorageKey()));
+    }
+
+    // Admins can download anything; students only files of courses they are enrolled in
+    @Transactional(readOnly = true)
+    public LessonFile getFileForDownload(Long courseId, Long lessonId, Long fileId, Users user) {
+        if (!"ADMIN".equals(user.getRole())) {
+            boolean enrolled = studentRepository.findIdByUserId(user.getId())
+                    .map(studentId -> enrollmentRepository.existsById(new EnrollmentId(studentId, courseId)))
+                    .orElse(false);
+            if (!enrolled) {
+                throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Enroll in the course to access its lessons");
+            }
+        }
+        requireLesson(courseId, lessonId);
+        return lessonFileRepository.findByIdAndLessonId(fileId, lessonId)
+                .orElseThrow(() -> new ResourceNotFoundException("Lesson file not found with id: " + fileId));
+    }
+
+    private LessonDto toDto(Lesson lesson) {
+        List<LessonFileDto> files = lessonFileRepository.findByLessonIdInOrderByIdAsc(List.of(lesson.getId())).stream()
+                .map(file -> LessonFileDto.from(file, lesson.getCourseId()))
+                .toList();
+        return LessonDto.from(lesson, files);
+    }
+
+    private void requireCourse(Long courseId) {
+        if (!courseRepository.existsById(courseId)) {
+            throw new ResourceNotFoundException("Course not found with id: " + courseId);
+        }
+    }
+
+    private Lesson requireLesson(Long courseId, Long lessonId) {
+        return lessonRepository.findByIdAndCourseId(lessonId, courseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Lesson not found with id: " + lessonId));
+    }
+
+    private static void copyDetails(Lesson from, Lesson to) {
+        if (from.getTitle() == null || from.getTitle().isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Lesson title is required");
+        }
+        to.setTitle(from.getTitle());
+        to.setDescription(from.getDescription());
+        to.setDurationMinutes(from.getDurationMinutes());
+    }
+
+    // Out-of-range or missing positions go to the end
+    private static int clamp(Integer position, int last) {
+        if (position == null || position > last) {
+            return last;
+        }
+        return Math.max(position, 1);
+    }
+
+    // Browsers may send a full client path; keep only the last segment
+    private static String fileName(MultipartFile upload) {
+        String name = upload.getOriginalFilename();
+        if (name == null || name.isBlank()) {
+            return "file";
+        }
+        name = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1);
+        return name.length() > 255 ? name.substring(name.length() - 255) : name;
+    }
+}
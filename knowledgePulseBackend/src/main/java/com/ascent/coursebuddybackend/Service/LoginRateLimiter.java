@@ -0,0 +1,68 @@
+package com.ascent.coursebuddybackend.Service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+
+// Throttles /api/auth/login before any BCrypt work is done. Every attempt
+// spends a token from the caller's IP bucket and then from the target
+// username's bucket, so one client cannot hammer many accounts and many
+// clients cannot hammer one account.
+@Service
+public class LoginRateLimiter {
+
+    @Value("${app.security.login-rate.ip.capacity:20}")
+    private int ipCapacity;
+
+    @Value("${app.security.login-rate.ip.refill-per-minute:10}")
+    private int ipRefillPerMinute;
+
+    @Value("${app.security.login-rate.username.capacity:5}")
+    private int usernameCapacity;
+
+    @Value("${app.security.login-rate.username.refill-per-minute:5}")
+    private int usernameRefillPerMinute;
+
+    @Value("${app.security.login-rate.max-keys:100000}")
+    private int maxKeys;
+
+    private TokenBucketLimiter byIp;
+    private TokenBucketLimiter byUsername;
+
+    @PostConstruct
+    void init() {
+        byIp = new TokenBucketLimiter(ipCapacity, ipRefillPerMinute, maxKeys, false);
+        // Anyone can spray usernames; once that fills the table, only the IP
+        // limit applies to usernames without a bucket
+        byUsername = new TokenBucketLimiter(usernameCapacity, usernameRefillPerMinute, maxKeys, true);
+    }
+
+    // Returns 0 if the attempt may proceed, otherwise the seconds to wait
+    public long check(String clientIp, String username) {
+        long waitNanos = byIp.tryAcquire(clientIp);
+        if (waitNanos == 0) {
+            String key = username == null ? "" : username.trim().toLowerCase(Locale.ROOT);
+            waitNanos = byUsername.tryAcquire(key);
+        }
+        return waitNanos == 0 ? 0 : Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.login-rate.sweep-ms:60000}")
+    public void sweep() {
+        byIp.sweep();
+        byUsername.sweep();
+    }
+
+    public Map<String, Object> getStats() {
+        return Map.of(
+                "ip", byIp.getStats(),
+                "username", byUsername.getStats()
+        );
+    }
+}
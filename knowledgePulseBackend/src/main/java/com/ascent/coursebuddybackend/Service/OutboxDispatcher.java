@@ -0,0 +1,211 @@
+package com.ascent.coursebuddybackend.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.ascent.coursebuddybackend.dto.DomainEvent;
+import com.ascent.coursebuddybackend.entity.OutboxEvent;
+import com.ascent.coursebuddybackend.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Delivers committed outbox events to every DomainEventListener on one
+// background thread, so listener work never runs on, or holds up, the request
+// that wrote the event. Events arrive through a bounded queue; when it is full
+// the event is simply not queued (its row is already committed) and the sweep
+// picks it up from outbox_events once there is room again. Writers therefore
+// never block however far behind the listeners are. Events are delivered in
+// batches and each batch is marked dispatched with a single update, but only
+// once every listener has accepted it; otherwise the sweep redelivers it.
+@Service
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired(required = false)
+    private List<DomainEventListener> listeners = List.of();
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.events.queue-capacity:10000}")
+    private int queueCapacity;
+
+    // Also the size of the id list in the mark-dispatched update; SQL Server
+    // allows 2100 parameters
+    @Value("${app.events.batch-size:200}")
+    private int batchSize;
+
+    // The sweep leaves events this young to the after-commit hand-off
+    @Value("${app.events.sweep-grace-ms:2000}")
+    private long sweepGraceMillis;
+
+    @Value("${app.events.retention-hours:24}")
+    private long retentionHours;
+
+    private BlockingQueue<DomainEvent> queue;
+    // Ids queued or being delivered, so an event the sweep finds while its
+    // hand-off is still pending is not delivered twice
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+    private final LongAdder swept = new LongAdder();
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder listenerFailures = new LongAdder();
+    private final LongAdder redeliveries = new LongAdder();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    @PostConstruct
+    void init() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        Gauge.builder("app.events.queued", queue, BlockingQueue::size)
+                .description("Domain events waiting for dispatch")
+                .register(meterRegistry);
+    }
+
+    // Started once the application is up; events written before then wait in
+    // the queue
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform().name("outbox-dispatcher").daemon().start(this::run);
+    }
+
+    // Whatever is still queued stays undispatched in outbox_events and is
+    // swept up after the next start
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.join(Duration.ofSeconds(5));
+        }
+    }
+
+    // Called from the writing transaction's afterCommit; never blocks
+    public void enqueue(DomainEvent event) {
+        if (!inFlight.add(event.id())) {
+            return;
+        }
+        if (queue.offer(event)) {
+            enqueued.increment();
+        } else {
+            inFlight.remove(event.id());
+            overflowed.increment();
+        }
+    }
+
+    // Re-reads events whose hand-off was dropped (queue full) or lost (crash,
+    // restart), taking no more than the queue has room for
+    @Scheduled(initialDelayString = "${app.events.sweep-ms:5000}", fixedDelayString = "${app.events.sweep-ms:5000}")
+    public void sweep() {
+        int room = Math.min(queue.remainingCapacity(), batchSize);
+        if (!running || room == 0) {
+            return;
+        }
+        LocalDateTime before = LocalDateTime.now().minusNanos(sweepGraceMillis * 1_000_000L);
+        for (OutboxEvent event : outboxEventRepository.findPending(before, PageRequest.of(0, room))) {
+            if (!inFlight.contains(event.getId())) {
+                swept.increment();
+                enqueue(DomainEvent.from(event));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.purge-ms:3600000}")
+    public void purge() {
+        int deleted = outboxEventRepository.deleteDispatchedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            log.debug("Purged {} dispatched outbox events", deleted);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        return Map.of(
+                "queued", queue.size(),
+                "queueCapacity", queueCapacity,
+                "enqueued", enqueued.sum(),
+                "overflowed", overflowed.sum(),
+                "swept", swept.sum(),
+                "dispatched", dispatched.sum(),
+                "batches", batches.sum(),
+                "listeners", listeners.size(),
+                "listenerFailures", listenerFailures.sum(),
+                "leftForRedelivery", redeliveries.sum()
+        );
+    }
+
+    private void run() {
+        List<DomainEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                DomainEvent first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // Most likely the mark-dispatched update; the sweep retries the batch
+                log.error("Outbox dispatch of {} events failed", batch.size(), e);
+            } finally {
+                batch.forEach(event -> inFlight.remove(event.id()));
+                batch.clear();
+            }
+        }
+    }
+
+    private void deliver(List<DomainEvent> batch) {
+        List<DomainEvent> events = List.copyOf(batch);
+        boolean failed = false;
+        for (DomainEventListener listener : listeners) {
+            try {
+                listener.onEvents(events);
+            } catch (RuntimeException e) {
+                failed = true;
+                listenerFailures.increment();
+                log.error("Domain event listener {} failed on {} events; leaving them for the sweep",
+                        listener.getClass().getSimpleName(), events.size(), e);
+            }
+        }
+        if (failed) {
+            redeliveries.add(events.size());
+            return;
+        }
+        outboxEventRepository.markDispatched(events.stream().map(DomainEvent::id).toList(), LocalDateTime.now());
+        dispatched.add(events.size());
+        batches.increment();
+    }
+}
@@ -0,0 +1,35 @@
+package com.ascent.coursebuddybackend.Service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.stereotype.Service;
+
+import com.ascent.coursebuddybackend.entity.CustomUserDetails;
+import com.ascent.coursebuddybackend.entity.Users;
+import com.ascent.coursebuddybackend.repository.UserRepo;
+
+// Called by the authentication provider after a successful login whose stored
+// hash uses an older (lower) BCrypt cost. The password itself is unchanged, so
+// existing tokens stay valid and credentialsChangedAt is not touched.
+@Service
+public class PasswordUpgradeService implements UserDetailsPasswordService {
+
+    @Autowired
+    private UserRepo userRepo;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Users dbUser = userRepo.findByUsername(user.getUsername());
+        if (dbUser == null) {
+            return user;
+        }
+        dbUser.setPassword(newPassword);
+        userRepo.save(dbUser);
+        principalCache.invalidate(dbUser.getUsername());
+        return new CustomUserDetails(dbUser);
+    }
+}
@@ -0,0 +1,54 @@
+package com.ascent.coursebuddybackend.Service;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+// Bounded, TTL-based cache of authenticated principals sitting in front of
+// CustomUserDetailsService so the JWT filter does not query the users table
+// on every request. Any code that changes a user's password or role must call
+// invalidate(username) after the change is saved.
+@Component
+public class PrincipalCache {
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Value("${app.security.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${app.security.principal-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private BoundedTtlCache<String, UserDetails> cache;
+
+    @PostConstruct
+    void init() {
+        cache = new BoundedTtlCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    public UserDetails get(String username) throws UsernameNotFoundException {
+        return cache.get(username, customUserDetailsService::loadUserByUsername);
+    }
+
+    public void invalidate(String username) {
+        if (username != null) {
+            cache.invalidate(username);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public Map<String, Object> getStats() {
+        return cache.getStats();
+    }
+}
@@ -0,0 +1,167 @@
+package com.ascent.coursebuddybackend.Service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.ascent.coursebuddybackend.dto.PageResponse;
+import com.ascent.coursebuddybackend.dto.RatingSummary;
+import com.ascent.coursebuddybackend.dto.ReviewDto;
+import com.ascent.coursebuddybackend.entity.EnrollmentId;
+import com.ascent.coursebuddybackend.entity.ResourceNotFoundException;
+import com.ascent.coursebuddybackend.entity.Review;
+import com.ascent.coursebuddybackend.entity.Student;
+import com.ascent.coursebuddybackend.entity.Users;
+import com.ascent.coursebuddybackend.repository.CourseRepository;
+import com.ascent.coursebuddybackend.repository.EnrollmentRepository;
+import com.ascent.coursebuddybackend.repository.ReviewRepository;
+import com.ascent.coursebuddybackend.repository.StudentRepository;
+
+import io.micrometer.core.annotation.Timed;
+
+// Course reviews. Every write moves the review between the course's star
+// buckets (Course.ratings) in the same transaction, so average rating and
+// distribution are always a single-row read. Review.version makes concurrent
+// edits of one review fail instead of adjusting the buckets twice; callers
+// wrap writes in ConflictRetry.
+@Service
+@Timed("app.service")
+@Transactional
+public class ReviewService {
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private CourseCatalogCache courseCatalogCache;
+
+    @Autowired
+    private CourseSearchIndex courseSearchIndex;
+
+    @Transactional(readOnly = true)
+    public PageResponse<ReviewDto> getReviews(Long courseId, Long cursor, int size) {
+        requireCourse(courseId);
+        Slice<ReviewDto> slice = reviewRepository.findPageBefore(courseId,
+                cursor == null ? Long.MAX_VALUE : cursor, PageRequest.of(0, size));
+        List<ReviewDto> content = slice.getContent();
+        Long nextCursor = content.isEmpty() ? null : content.get(content.size() - 1).id();
+        return PageResponse.ofKeyset(content, size, slice.hasNext(), nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public RatingSummary getRatingSummary(Long courseId) {
+        return courseRepository.findRatings(courseId)
+                .map(ratings -> RatingSummary.from(courseId, ratings))
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found with id: " + courseId));
+    }
+
+    // Only students enrolled in the course can review it, once
+    public ReviewDto createReview(Long courseId, Users user, Review details) {
+        requireCourse(courseId);
+        int rating = validRating(details.getRating());
+        Student student = requireStudent(user);
+        if (!enrollmentRepository.existsById(new EnrollmentId(student.getId(), courseId))) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only enrolled students can review this course");
+        }
+        if (reviewRepository.existsByCourseIdAndStudentId(courseId, student.getId())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "You have already reviewed this course");
+        }
+
+        Review review = new Review();
+        review.setCourseId(courseId);
+        review.setStudentId(student.getId());
+        review.setRating(rating);
+        review.setComment(details.getComment());
+        Review saved = reviewRepository.saveAndFlush(review);
+        courseRepository.adjustRatings(courseId, rating, 0);
+        courseCatalogCache.invalidateAfterCommit(courseId);
+        courseSearchIndex.ratingsChangedAfterCommit(courseId);
+        return ReviewDto.from(saved, fullName(student));
+    }
+
+    public ReviewDto updateReview(Long courseId, Long reviewId, Users user, Review details) {
+        Review review = requireReview(courseId, reviewId);
+        Student student = requireStudent(user);
+        if (!review.getStudentId().equals(student.getId())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You can only edit your own review");
+        }
+
+        int previous = review.getRating();
+        int rating = details.getRating() == null ? previous : validRating(details.getRating());
+        review.setRating(rating);
+        review.setComment(details.getComment());
+        Review saved = reviewRepository.saveAndFlush(review);
+        if (rating != previous) {
+            courseRepository.adjustRatings(courseId, rating, previous);
+            courseCatalogCache.invalidateAfterCommit(courseId);
+            courseSearchIndex.ratingsChangedAfterCommit(courseId);
+        }
+        return ReviewDto.from(saved, fullName(student));
+    }
+
+    // Authors can delete their own review; admins can delete any
+    public void deleteReview(Long courseId, Long reviewId, Users user) {
+        Review review = requireReview(courseId, reviewId);
+        if (!"ADMIN".equals(user.getRole())) {
+            Student student = requireStudent(user);
+            if (!review.getStudentId().equals(student.getId())) {
+                throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You can only delete your own review");
+            }
+        }
+        reviewRepository.delete(review);
+        reviewRepository.flush();
+        courseRepository.adjustRatings(courseId, 0, review.getRating());
+        courseCatalogCache.invalidateAfterCommit(courseId);
+        courseSearchIndex.ratingsChangedAfterCommit(courseId);
+    }
+
+    // Called from CourseService.deleteCourse; the course row and its buckets go too
+    public void deleteReviewsForCourse(Long courseId) {
+        reviewRepository.deleteByCourse(courseId);
+    }
+
+    private void requireCourse(Long courseId) {
+        if (!courseRepository.existsById(courseId)) {
+            throw new ResourceNotFoundException("Course not found with id: " + courseId);
+        }
+    }
+
+    private Review requireReview(Long courseId, Long reviewId) {
+        return reviewRepository.findByIdAndCourseId(reviewId, courseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Review not found with id: " + reviewId));
+    }
+
+    private Student requireStudent(Users user) {
+        Student student = studentRepository.findByUser_Id((long) user.getId());
+        if (student == null) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only students can review courses");
+        }
+        return student;
+    }
+
+    private static int validRating(Integer rating) {
+        if (rating == null || rating < 1 || rating > 5) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Rating must be between 1 and 5");
+        }
+        return rating;
+    }
+
+    private static String fullName(Student student) {
+        return (student.getFirstName() + " " + student.getLastName()).trim();
+    }
+}
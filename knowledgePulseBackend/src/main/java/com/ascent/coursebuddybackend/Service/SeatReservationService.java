@@ -0,0 +1,145 @@
+package com.ascent.coursebuddybackend.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ascent.coursebuddybackend.dto.SeatCount;
+import com.ascent.coursebuddybackend.repository.CourseRepository;
+
+// In-memory admission gate in front of the conditional seat UPDATE. Each
+// course has a counter of seats believed to be free; once it reaches zero,
+// further enroll requests go straight to the waitlist without queueing on
+// the course row. The database update stays authoritative (it also covers
+// other instances), so the counters only need to be roughly right: they are
+// dropped and reloaded periodically and whenever the database disagrees.
+@Service
+public class SeatReservationService {
+
+    private static final int UNLIMITED = Integer.MAX_VALUE;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    // course id -> seats believed free (UNLIMITED when the course has no capacity)
+    private final Map<Long, AtomicInteger> remaining = new ConcurrentHashMap<>();
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    // Backfills enrolled_count for rows enrolled before the column existed
+    // and repairs any drift from writes that bypassed the seat updates
+    @EventListener(ApplicationReadyEvent.class)
+    public void recount() {
+        courseRepository.recountEnrollments();
+        remaining.clear();
+    }
+
+    @Scheduled(fixedDelayString = "${app.enrollment.seat-refresh-ms:30000}")
+    public void refresh() {
+        remaining.clear();
+    }
+
+    // Takes a seat from the in-memory counter; false means the course is
+    // known to be full. The seat is handed back if the transaction rolls back.
+    public boolean tryAcquire(Long courseId) {
+        AtomicInteger seats = seatsFor(courseId);
+        if (seats == null) {
+            // Unknown course: let the database report it
+            return true;
+        }
+        while (true) {
+            int free = seats.get();
+            if (free == UNLIMITED) {
+                return true;
+            }
+            if (free <= 0) {
+                rejected.increment();
+                return false;
+            }
+            if (seats.compareAndSet(free, free - 1)) {
+                admitted.increment();
+                releaseOnRollback(courseId);
+                return true;
+            }
+        }
+    }
+
+    // Called when the database found the course full although the counter had room
+    public void markFull(Long courseId) {
+        AtomicInteger seats = remaining.get(courseId);
+        if (seats != null && seats.get() != UNLIMITED) {
+            seats.set(0);
+        }
+    }
+
+    public void releaseAfterCommit(Long courseId) {
+        afterCompletion(TransactionSynchronization.STATUS_COMMITTED, () -> release(courseId));
+    }
+
+    // Forget the counter once the transaction commits, so the next request
+    // reloads it (e.g. after the capacity changed)
+    public void invalidateAfterCommit(Long courseId) {
+        afterCompletion(TransactionSynchronization.STATUS_COMMITTED, () -> remaining.remove(courseId));
+    }
+
+    public Map<String, Object> getStats() {
+        return Map.of(
+                "trackedCourses", remaining.size(),
+                "admitted", admitted.sum(),
+                "rejectedWhenFull", rejected.sum()
+        );
+    }
+
+    private AtomicInteger seatsFor(Long courseId) {
+        AtomicInteger seats = remaining.get(courseId);
+        if (seats != null) {
+            return seats;
+        }
+        // Loaded outside computeIfAbsent so the query never runs under a map bin lock
+        Integer free = courseRepository.findSeatCount(courseId)
+                .map(count -> count.capacity() == null ? UNLIMITED : count.remaining())
+                .orElse(null);
+        if (free == null) {
+            return null;
+        }
+        AtomicInteger loaded = new AtomicInteger(free);
+        AtomicInteger existing = remaining.putIfAbsent(courseId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private void release(Long courseId) {
+        AtomicInteger seats = remaining.get(courseId);
+        if (seats != null) {
+            seats.getAndUpdate(free -> free == UNLIMITED ? free : free + 1);
+        }
+    }
+
+    private void releaseOnRollback(Long courseId) {
+        afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK, () -> release(courseId));
+    }
+
+    private static void afterCompletion(int runOn, Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == runOn) {
+                        action.run();
+                    }
+                }
+            });
+        } else if (runOn == TransactionSynchronization.STATUS_COMMITTED) {
+            action.run();
+        }
+    }
+}
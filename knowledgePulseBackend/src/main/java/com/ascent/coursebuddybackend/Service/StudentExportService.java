@@ -0,0 +1,132 @@
+package com.ascent.coursebuddybackend.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ascent.coursebuddybackend.dto.StudentEnrollmentRow;
+import com.ascent.coursebuddybackend.dto.StudentExport;
+import com.ascent.coursebuddybackend.repository.StudentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import io.micrometer.core.annotation.Timed;
+
+// Streams every student with their enrollments straight to the response. Only
+// the student currently being written is held in memory, so heap use stays
+// flat however many rows the export covers.
+@Service
+@Timed("app.service")
+public class StudentExportService {
+
+    public enum Format { NDJSON, CSV }
+
+    private static final String CSV_HEADER =
+            "id,firstName,lastName,phone,highestEducation,address,createdAt,username,courseCodes\n";
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void export(Format format, OutputStream responseStream) throws IOException {
+        OutputStream out = new BufferedOutputStream(responseStream, 64 * 1024);
+        ObjectWriter jsonWriter = objectMapper.writerFor(StudentExport.class);
+        if (format == Format.CSV) {
+            out.write(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+        }
+
+        try (Stream<StudentEnrollmentRow> rows = studentRepository.streamAllWithEnrollments()) {
+            Iterator<StudentEnrollmentRow> it = rows.iterator();
+            StudentEnrollmentRow first = it.hasNext() ? it.next() : null;
+            while (first != null) {
+                List<StudentExport.EnrolledCourse> courses = new ArrayList<>();
+                addCourse(courses, first);
+                StudentEnrollmentRow next = null;
+                while (it.hasNext()) {
+                    StudentEnrollmentRow row = it.next();
+                    if (!row.studentId().equals(first.studentId())) {
+                        next = row;
+                        break;
+                    }
+                    addCourse(courses, row);
+                }
+
+                StudentExport student = toExport(first, courses);
+                if (format == Format.CSV) {
+                    out.write(toCsvLine(student).getBytes(StandardCharsets.UTF_8));
+                } else {
+                    out.write(jsonWriter.writeValueAsBytes(student));
+                    out.write('\n');
+                }
+                first = next;
+            }
+        }
+        out.flush();
+    }
+
+    private static void addCourse(List<StudentExport.EnrolledCourse> courses, StudentEnrollmentRow row) {
+        if (row.courseId() != null) {
+            courses.add(new StudentExport.EnrolledCourse(row.courseId(), row.courseCode(), row.courseName()));
+        }
+    }
+
+    private static StudentExport toExport(StudentEnrollmentRow row, List<StudentExport.EnrolledCourse> courses) {
+        return new StudentExport(
+                row.studentId(),
+                row.firstName(),
+                row.lastName(),
+                row.phone(),
+                row.highestEducation(),
+                row.address(),
+                row.createdAt(),
+                row.username(),
+                courses
+        );
+    }
+
+    private static String toCsvLine(StudentExport student) {
+        String courseCodes = student.courses().stream()
+                .map(StudentExport.EnrolledCourse::courseCode)
+                .collect(Collectors.joining(";"));
+        return String.join(",",
+                String.valueOf(student.id()),
+                csv(student.firstName()),
+                csv(student.lastName()),
+                csv(student.phone()),
+                csv(student.highestEducation()),
+                csv(student.address()),
+                student.createdAt() == null ? "" : student.createdAt().toString(),
+                csv(student.username()),
+                csv(courseCodes)
+        ) + "\n";
+    }
+
+    // RFC 4180 quoting; a leading formula character (or tab/carriage return,
+    // which spreadsheets also act on) is prefixed with a quote so it is not
+    // evaluated
+    private static String csv(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        if ("=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+}
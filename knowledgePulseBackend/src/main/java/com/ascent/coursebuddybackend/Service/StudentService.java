@@ -1,21 +1,36 @@
 package com.ascent.coursebuddybackend.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import com.ascent.coursebuddybackend.dto.EnrollmentResult;
+import com.ascent.coursebuddybackend.dto.StudentDto;
 import com.ascent.coursebuddybackend.entity.Course;
+import com.ascent.coursebuddybackend.entity.Enrollment;
+import com.ascent.coursebuddybackend.entity.EnrollmentId;
+import com.ascent.coursebuddybackend.entity.OutboxEvent;
 import com.ascent.coursebuddybackend.entity.ResourceNotFoundException;
 import com.ascent.coursebuddybackend.entity.Student;
 import com.ascent.coursebuddybackend.entity.Users;
+import com.ascent.coursebuddybackend.entity.WaitlistEntry;
 import com.ascent.coursebuddybackend.repository.CourseRepository;
+import com.ascent.coursebuddybackend.repository.EnrollmentRepository;
 import com.ascent.coursebuddybackend.repository.StudentRepository;
+import com.ascent.coursebuddybackend.repository.WaitlistRepository;
+
+import io.micrometer.core.annotation.Timed;
 
 @Service
+@Timed("app.service")
 @Transactional
 public class StudentService {
 
@@ -25,11 +40,32 @@ public class StudentService {
     @Autowired
     private CourseRepository courseRepository;
 
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private WaitlistRepository waitlistRepository;
+
+    @Autowired
+    private SeatReservationService seatReservationService;
+
+    @Autowired
+    private CourseStatsService courseStatsService;
+
+    @Autowired
+    private CourseRankingService courseRankingService;
+
     @Autowired
     private UserService userService;
 
-    public List<Student> getAllStudents() {
-        return studentRepository.findAll();
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+
+    @Transactional(readOnly = true)
+    public List<StudentDto> getAllStudents() {
+        return studentRepository.findAllWithUserAndCourses().stream()
+                .map(StudentDto::from)
+                .toList();
     }
 
     public Student getStudentById(Long id) {
@@ -49,22 +85,45 @@ public class StudentService {
         // Link user to student
         student.setUser(user);
 
-        return studentRepository.save(student);
+        Student saved = studentRepository.save(student);
+        domainEventPublisher.publish(OutboxEvent.Type.STUDENT_REGISTERED, saved.getId(), null);
+        return saved;
     }
 
     public Student updateStudent(Long id, Student studentDetails) {
         Student student = getStudentById(id);
 
+        return saveProfile(student, studentDetails);
+    }
+
+    // Profile edits are checked against the version the client read, so a save
+    // made from a stale copy gets a 409 instead of overwriting a newer one
+    private Student saveProfile(Student student, Student studentDetails) {
+        if (studentDetails.getVersion() != null && !studentDetails.getVersion().equals(student.getVersion())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "The student was changed by someone else; reload and try again");
+        }
         student.setFirstName(studentDetails.getFirstName());
         student.setLastName(studentDetails.getLastName());
         student.setPhone(studentDetails.getPhone());
         student.setAddress(studentDetails.getAddress());
         student.setHighestEducation(studentDetails.getHighestEducation());
-        return studentRepository.save(student);
+        try {
+            return studentRepository.saveAndFlush(student);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "The student was changed by someone else; reload and try again", e);
+        }
     }
 
+    // Leaves every course through unenroll first, so seats are released and
+    // waitlisted students promoted as if the student had dropped each course
     public void deleteStudent(Long id) {
         Student student = getStudentById(id);
+        waitlistRepository.deleteByStudent(id);
+        for (Long courseId : enrollmentRepository.findCourseIdsByStudent(id)) {
+            unenroll(id, courseId);
+        }
         studentRepository.delete(student);
     }
 
@@ -73,21 +132,18 @@ public class StudentService {
         return student.getCourses();
     }
 
-    public Student enrollStudentInCourse(Long studentId, Long courseId) {
-        Student student = getStudentById(studentId);
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new ResourceNotFoundException("Course not found with id: " + courseId));
-
-        student.enrollInCourse(course);
-        return studentRepository.save(student);
+    public EnrollmentResult enrollStudentInCourse(Long studentId, Long courseId) {
+        if (!studentRepository.existsById(studentId)) {
+            throw new ResourceNotFoundException("Student not found with id: " + studentId);
+        }
+        return enroll(studentId, courseId);
     }
 
     public void unenrollStudentFromCourse(Long studentId, Long courseId) {
-        Student student = getStudentById(studentId);
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new ResourceNotFoundException("Course not found with id: " + courseId));
-
-        student.unenrollFromCourse(course);
+        if (!studentRepository.existsById(studentId)) {
+            throw new ResourceNotFoundException("Student not found with id: " + studentId);
+        }
+        unenroll(studentId, courseId);
     }
 
 
@@ -99,12 +155,7 @@ public class StudentService {
 
     public Student updateStudentByUser(Users user, Student studentDetails) {
         Student student = getStudentByUser(user);
-        student.setFirstName(studentDetails.getFirstName());
-        student.setLastName(studentDetails.getLastName());
-        student.setPhone(studentDetails.getPhone());
-        student.setAddress(studentDetails.getAddress());
-        student.setHighestEducation(studentDetails.getHighestEducation());
-        return studentRepository.save(student);
+        return saveProfile(student, studentDetails);
     }
 
     public Set<Course> getStudentCoursesByUser(Users user) {
@@ -112,20 +163,94 @@ public class StudentService {
         return student.getCourses();
     }
 
-    public Student enrollStudentInCourseByUser(Users user, Long courseId) {
-        Student student = getStudentByUser(user);
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new ResourceNotFoundException("Course not found with id: " + courseId));
-        student.enrollInCourse(course);
-        return studentRepository.save(student);
+    public EnrollmentResult enrollStudentInCourseByUser(Users user, Long courseId) {
+        return enroll(getStudentIdByUser(user), courseId);
     }
 
     public void unenrollStudentFromCourseByUser(Users user, Long courseId) {
-        Student student = getStudentByUser(user);
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new ResourceNotFoundException("Course not found with id: " + courseId));
-        student.unenrollFromCourse(course);
-        studentRepository.save(student);
+        unenroll(getStudentIdByUser(user), courseId);
+    }
+
+    private Long getStudentIdByUser(Users user) {
+        return studentRepository.findIdByUserId(user.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Student profile not found for user: " + user.getUsername()));
     }
 
-}
\ No newline at end of file
+    // Enrollment touches only the student_courses row and the course's seat
+    // counter, never the course's roster collection, so the cost does not grow
+    // with the number of students in the course. A seat is taken with a single
+    // conditional UPDATE issued right before the insert, which keeps the course
+    // row locked for as short a time as possible; requests for a course the
+    // seat gate already knows is full skip the UPDATE and join the waitlist.
+    private EnrollmentResult enroll(Long studentId, Long courseId) {
+        EnrollmentId id = new EnrollmentId(studentId, courseId);
+        if (enrollmentRepository.existsById(id)) {
+            return EnrollmentResult.of(EnrollmentResult.Status.ALREADY_ENROLLED);
+        }
+        if (seatReservationService.tryAcquire(courseId)) {
+            if (courseRepository.reserveSeats(courseId, 1) == 1) {
+                enrollmentRepository.save(new Enrollment(id));
+                courseStatsService.enrollmentsAddedAfterCommit(courseId, 1);
+                courseRankingService.recordEnrollmentsAfterCommit(courseId, 1);
+                domainEventPublisher.publish(OutboxEvent.Type.STUDENT_ENROLLED, studentId, courseId);
+                return EnrollmentResult.of(EnrollmentResult.Status.ENROLLED);
+            }
+            requireCourse(courseId);
+            seatReservationService.markFull(courseId);
+        }
+        return joinWaitlist(studentId, courseId);
+    }
+
+    private void unenroll(Long studentId, Long courseId) {
+        EnrollmentId id = new EnrollmentId(studentId, courseId);
+        LocalDateTime enrolledAt = enrollmentRepository.findEnrolledAt(id).orElse(null);
+        if (enrollmentRepository.deleteByKey(id) == 0) {
+            requireCourse(courseId);
+            // Not enrolled; leave the waitlist instead if queued there
+            waitlistRepository.deleteByCourseAndStudent(courseId, studentId);
+            return;
+        }
+        courseRepository.releaseSeats(courseId, 1);
+        courseStatsService.enrollmentRemovedAfterCommit(courseId, enrolledAt);
+        domainEventPublisher.publish(OutboxEvent.Type.STUDENT_UNENROLLED, studentId, courseId);
+        if (!promoteFromWaitlist(courseId)) {
+            seatReservationService.releaseAfterCommit(courseId);
+        }
+    }
+
+    private EnrollmentResult joinWaitlist(Long studentId, Long courseId) {
+        WaitlistEntry entry = waitlistRepository.findByCourseIdAndStudentId(courseId, studentId)
+                .orElseGet(() -> waitlistRepository.save(new WaitlistEntry(courseId, studentId)));
+        return EnrollmentResult.waitlisted(waitlistRepository.positionOf(courseId, entry.getId()));
+    }
+
+    // Hands a freed seat to the longest-waiting student, in the same transaction
+    // as the unenroll so the seat is never visible as free in between
+    private boolean promoteFromWaitlist(Long courseId) {
+        Optional<WaitlistEntry> next;
+        while ((next = waitlistRepository.findFirstByCourseIdOrderByIdAsc(courseId)).isPresent()) {
+            WaitlistEntry entry = next.get();
+            EnrollmentId id = new EnrollmentId(entry.getStudentId(), courseId);
+            if (enrollmentRepository.existsById(id)) {
+                waitlistRepository.delete(entry);
+                continue;
+            }
+            if (courseRepository.reserveSeats(courseId, 1) == 0) {
+                return false;
+            }
+            waitlistRepository.delete(entry);
+            enrollmentRepository.save(new Enrollment(id));
+            courseStatsService.enrollmentsAddedAfterCommit(courseId, 1);
+            courseRankingService.recordEnrollmentsAfterCommit(courseId, 1);
+            domainEventPublisher.publish(OutboxEvent.Type.STUDENT_ENROLLED, entry.getStudentId(), courseId);
+            return true;
+        }
+        return false;
+    }
+
+    private void requireCourse(Long courseId) {
+        if (!courseRepository.existsById(courseId)) {
+            throw new ResourceNotFoundException("Course not found with id: " + courseId);
+        }
+    }
+}
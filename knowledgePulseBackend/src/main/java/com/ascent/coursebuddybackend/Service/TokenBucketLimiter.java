@@ -0,0 +1,109 @@
+package com.ascent.coursebuddybackend.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Per-key token buckets with a bound on the number of keys. Each bucket is a
+// single AtomicLong holding the time at which it will be full again (the
+// "theoretical arrival time" form of a token bucket), updated with CAS, so
+// there are no locks on the hot path. A bucket whose time has passed is full
+// and can be forgotten without changing any decision, which is what the
+// sweep removes. If the table is still full of active buckets (key spraying),
+// the map does not grow: new keys either share one overflow bucket, or, with
+// failOpen, are let through untracked. Sharing suits keys an attacker cannot
+// mint freely (client IPs); for keys they can (usernames), it would let a
+// spray lock every other key out, so those limiters fail open and rely on
+// another limit.
+public class TokenBucketLimiter {
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int capacity;
+    private final long refillNanos;
+    private final long burstNanos;
+    private final int maxKeys;
+    private final boolean failOpen;
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong overflow = new AtomicLong(System.nanoTime());
+    private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+
+    public TokenBucketLimiter(int capacity, int refillPerMinute, int maxKeys, boolean failOpen) {
+        this.capacity = capacity;
+        this.refillNanos = TimeUnit.MINUTES.toNanos(1) / refillPerMinute;
+        this.burstNanos = refillNanos * (capacity - 1);
+        this.maxKeys = maxKeys;
+        this.failOpen = failOpen;
+    }
+
+    // Takes one token; returns 0 if allowed, otherwise nanos until one is available
+    public long tryAcquire(String key) {
+        long now = System.nanoTime();
+        AtomicLong bucket = bucketFor(key, now);
+        if (bucket == null) {
+            allowed.increment();
+            return 0;
+        }
+        while (true) {
+            long fullAt = bucket.get();
+            long start = fullAt - now > 0 ? fullAt : now;
+            long wait = start - now - burstNanos;
+            if (wait > 0) {
+                rejected.increment();
+                return wait;
+            }
+            if (bucket.compareAndSet(fullAt, start + refillNanos)) {
+                allowed.increment();
+                return 0;
+            }
+        }
+    }
+
+    // Drops buckets that have refilled completely
+    public void sweep() {
+        long now = System.nanoTime();
+        lastSweep.set(now);
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+    }
+
+    public Map<String, Object> getStats() {
+        return Map.of(
+                "keys", buckets.size(),
+                "maxKeys", maxKeys,
+                "failOpen", failOpen,
+                "capacity", capacity,
+                "refillPerMinute", TimeUnit.MINUTES.toNanos(1) / refillNanos,
+                "allowed", allowed.sum(),
+                "rejected", rejected.sum(),
+                "overflowed", overflowed.sum()
+        );
+    }
+
+    // null when the table is full and this limiter fails open
+    private AtomicLong bucketFor(String key, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxKeys) {
+            // At most one full scan per second, however hard the map is sprayed
+            long last = lastSweep.get();
+            if (now - last > SWEEP_INTERVAL_NANOS && lastSweep.compareAndSet(last, now)) {
+                sweep();
+            }
+            if (buckets.size() >= maxKeys) {
+                overflowed.increment();
+                return failOpen ? null : overflow;
+            }
+        }
+        AtomicLong fresh = new AtomicLong(now);
+        AtomicLong existing = buckets.putIfAbsent(key, fresh);
+        return existing != null ? existing : fresh;
+    }
+}
@@ -0,0 +1,58 @@
+package com.ascent.coursebuddybackend.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.ascent.coursebuddybackend.entity.Users;
+import com.ascent.coursebuddybackend.repository.UserRepo;
+
+// Keeps, per username, the issued-at cutoff below which tokens are no longer
+// accepted. Checked on every request without touching the database; entries
+// older than the token lifetime are dropped because those tokens have expired
+// anyway. The cutoffs are persisted as Users.credentialsChangedAt and reloaded
+// on startup.
+@Service
+public class TokenRevocationService {
+
+    @Autowired
+    private UserRepo userRepo;
+
+    // username -> epoch millisecond; tokens issued strictly before it are revoked
+    private final Map<String, Long> cutoffs = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRecentRevocations() {
+        LocalDateTime since = LocalDateTime.now().minusNanos(JWTService.TOKEN_TTL_MILLIS * 1_000_000L);
+        for (Users user : userRepo.findByCredentialsChangedAtAfter(since)) {
+            revokeTokensIssuedBefore(user.getUsername(), user.getCredentialsChangedAt());
+        }
+    }
+
+    public void revokeTokensIssuedBefore(String username, LocalDateTime changedAt) {
+        long cutoff = changedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        cutoffs.merge(username, cutoff, Math::max);
+        purgeExpired();
+    }
+
+    // issuedAtMillis comes from JWTService.extractIssuedAtMillis; a token
+    // without an issue time is treated as revoked
+    public boolean isRevoked(String username, Long issuedAtMillis) {
+        Long cutoff = cutoffs.get(username);
+        if (cutoff == null) {
+            return false;
+        }
+        return issuedAtMillis == null || issuedAtMillis < cutoff;
+    }
+
+    private void purgeExpired() {
+        long oldest = System.currentTimeMillis() - JWTService.TOKEN_TTL_MILLIS;
+        cutoffs.values().removeIf(cutoff -> cutoff < oldest);
+    }
+}
@@ -4,14 +4,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.ascent.coursebuddybackend.config.RegistrationResponse;
 import com.ascent.coursebuddybackend.entity.Users;
 import com.ascent.coursebuddybackend.repository.UserRepo;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
+@Timed("app.service")
 public class UserService {
     @Autowired
     private UserRepo userRepo;
@@ -20,13 +23,15 @@ public class UserService {
     @Autowired
     private AuthenticationManager authenticationManager;
 
-    private BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder(12);
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
     public RegistrationResponse register(Users user) {
-        user.setPassword(bCryptPasswordEncoder.encode(user.getPassword()));
+        user.setPassword(passwordEncoder.encode(user.getPassword()));
         Users savedUser = userRepo.save(user);
         
         // Generate token for the saved user
-        String token = jwtService.generateToken(savedUser.getUsername(), savedUser.getRole());
+        String token = jwtService.generateToken(savedUser.getId(), savedUser.getUsername(), savedUser.getRole());
         
         return new RegistrationResponse(
             savedUser.getUsername(),
@@ -41,7 +46,7 @@ public class UserService {
         if(authentication.isAuthenticated()) {
             // Get the actual user from database to get the role
             Users dbUser = userRepo.findByUsername(user.getUsername());
-            return jwtService.generateToken(dbUser.getUsername(), dbUser.getRole());
+            return jwtService.generateToken(dbUser.getId(), dbUser.getUsername(), dbUser.getRole());
         }
         else
             return "Invalid Credentials";
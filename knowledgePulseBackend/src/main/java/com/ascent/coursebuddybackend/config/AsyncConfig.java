@@ -0,0 +1,40 @@
+package com.ascent.coursebuddybackend.config;
+
+import java.util.Map;
+
+import org.slf4j.MDC;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+// @Async runs on Boot's auto-configured executor: a bounded platform pool
+// (spring.task.execution.pool.*) or, with spring.threads.virtual.enabled, one
+// virtual thread per task capped by spring.task.execution.simple.concurrency-limit.
+// Either way the caller's MDC (requestId) is carried over to the task.
+@Configuration
+public class AsyncConfig {
+
+    @Bean
+    public TaskDecorator mdcTaskDecorator() {
+        return task -> {
+            Map<String, String> context = MDC.getCopyOfContextMap();
+            return () -> {
+                Map<String, String> previous = MDC.getCopyOfContextMap();
+                setContext(context);
+                try {
+                    task.run();
+                } finally {
+                    setContext(previous);
+                }
+            };
+        };
+    }
+
+    private static void setContext(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.ascent.coursebuddybackend.config;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// The application's only PasswordEncoder. BCrypt work runs on a small
+// dedicated pool with a bounded queue, so a burst of logins or registrations
+// can use at most that many cores and never ties up every Tomcat worker
+// hashing; once the queue is full, callers get an immediate 503. The cost
+// factor is either fixed by configuration or calibrated at startup so one
+// hash takes about the target time on this machine, and never drops below 12,
+// the cost every hash was stored with before calibration. Hashes stored with a
+// lower cost report upgradeEncoding() == true and are re-hashed on the next
+// successful login (see PasswordUpgradeService).
+@Component
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final int MIN_COST = 12;
+    private static final int MAX_COST = 14;
+
+    // 0 means calibrate against target-millis
+    @Value("${app.security.bcrypt.cost:0}")
+    private int configuredCost;
+
+    @Value("${app.security.bcrypt.target-millis:250}")
+    private long targetMillis;
+
+    // 0 means one thread per available processor
+    @Value("${app.security.bcrypt.threads:0}")
+    private int threads;
+
+    @Value("${app.security.bcrypt.queue-capacity:64}")
+    private int queueCapacity;
+
+    private int cost;
+    private double calibratedMillis;
+    private BCryptPasswordEncoder delegate;
+    private ThreadPoolExecutor executor;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAdder hashCount = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        cost = configuredCost > 0 ? Math.max(configuredCost, MIN_COST) : calibrate();
+        delegate = new BCryptPasswordEncoder(cost);
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bcrypt-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public Map<String, Object> getStats() {
+        long count = hashCount.sum();
+        return Map.of(
+                "cost", cost,
+                "calibratedHashMillis", calibratedMillis,
+                "threads", executor.getCorePoolSize(),
+                "queueCapacity", queueCapacity,
+                "queued", executor.getQueue().size(),
+                "active", executor.getActiveCount(),
+                "completed", count,
+                "rejected", rejected.sum(),
+                "avgHashMillis", count == 0 ? 0.0 : hashNanos.sum() / 1e6 / count
+        );
+    }
+
+    private <T> T submit(Callable<T> work) {
+        Future<T> result;
+        try {
+            result = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return work.call();
+                } finally {
+                    hashNanos.add(System.nanoTime() - start);
+                    hashCount.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Too many sign-in requests in progress; please retry shortly");
+        }
+
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Interrupted while hashing");
+        }
+    }
+
+    // Each cost step doubles the work, so time one hash at MIN_COST and
+    // extrapolate to the smallest cost that reaches the target
+    private int calibrate() {
+        new BCryptPasswordEncoder(4).encode("warm-up");
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(MIN_COST);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        double minCostMillis = best / 1e6;
+        int calibrated = MIN_COST;
+        while (calibrated < MAX_COST && minCostMillis * (1L << (calibrated - MIN_COST)) < targetMillis) {
+            calibrated++;
+        }
+        calibratedMillis = minCostMillis * (1L << (calibrated - MIN_COST));
+        return calibrated;
+    }
+}
@@ -1,23 +1,35 @@
 package com.ascent.coursebuddybackend.config;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.CommandLineRunner;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import com.ascent.coursebuddybackend.entity.Users;
 import com.ascent.coursebuddybackend.repository.UserRepo;
 
+// Seeds the default admin account. Runs on the task executor once the
+// application is ready, so the lookup and the BCrypt hash are not part of
+// startup; the account appears a moment after the first requests can be served.
 @Component
-public class DataInitializer implements CommandLineRunner {
-    
+public class DataInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(DataInitializer.class);
+
     @Autowired
     private UserRepo userRepo;
-    
-    private BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(12);
-    
-    @Override
-    public void run(String... args) throws Exception {
+
+    @Autowired
+    private PasswordEncoder encoder;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedAdmin() {
         // Create default admin user if not exists
         Users existingAdmin = userRepo.findByUsername("admin@admin.com");
         if (existingAdmin == null) {
@@ -25,13 +37,15 @@ public class DataInitializer implements CommandLineRunner {
             admin.setUsername("admin@admin.com");
             admin.setPassword(encoder.encode("admin123")); // Change this password!
             admin.setRole("ADMIN");
-            userRepo.save(admin);
-
+            try {
+                userRepo.save(admin);
+                log.info("Created default admin user {}", admin.getUsername());
+            } catch (DataIntegrityViolationException e) {
+                // Another instance starting at the same time got there first
+                log.info("Admin user {} was created concurrently", admin.getUsername());
+            }
         } else {
-            System.out.println("✓ Admin user already exists");
-            System.out.println("  Username: " + existingAdmin.getUsername());
-            System.out.println("  Role: " + existingAdmin.getRole());
-            System.out.println("  If you forgot the password, delete this user from the database or reset it manually.");
+            log.info("Admin user {} already exists with role {}", existingAdmin.getUsername(), existingAdmin.getRole());
         }
     }
 }
@@ -0,0 +1,85 @@
+package com.ascent.coursebuddybackend.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+// Samples repeated warnings and errors so a failure that hits every request
+// (database down, bad upstream) cannot flood the log queue. Events are grouped
+// by logger, message template and exception type; each group passes the first
+// `burst` events per window, and the number dropped is reported once the next
+// window opens. Configured from logback-spring.xml, not Spring.
+public class ErrorSamplingTurboFilter extends TurboFilter {
+
+    private int burst = 10;
+    private long windowMillis = 60_000;
+    private int maxKeys = 1_000;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (format == null || !level.isGreaterOrEqual(Level.WARN) || logger.getName().equals(getClass().getName())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        String key = logger.getName() + '|' + format + '|' + (t == null ? "" : t.getClass().getName());
+        long now = System.currentTimeMillis();
+        if (windows.size() >= maxKeys && !windows.containsKey(key)) {
+            windows.values().removeIf(window -> now - window.start >= windowMillis);
+            if (windows.size() >= maxKeys) {
+                // Too many distinct messages to track; let them through unsampled
+                return FilterReply.NEUTRAL;
+            }
+        }
+
+        Window current = windows.get(key);
+        if (current == null || now - current.start >= windowMillis) {
+            Window next = new Window(now);
+            boolean replaced = current == null ? windows.putIfAbsent(key, next) == null : windows.replace(key, current, next);
+            if (replaced && current != null && current.suppressed.get() > 0) {
+                reportSuppressed(logger, format, current.suppressed.get());
+            }
+            current = windows.get(key);
+        }
+        if (current == null || current.passed.incrementAndGet() <= burst) {
+            return FilterReply.NEUTRAL;
+        }
+        current.suppressed.incrementAndGet();
+        return FilterReply.DENY;
+    }
+
+    private void reportSuppressed(Logger source, String format, int suppressed) {
+        source.getLoggerContext().getLogger(getClass()).warn(
+                "Suppressed {} repeats of \"{}\" from {} in the last window", suppressed, format, source.getName());
+    }
+
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+
+    public void setWindowMillis(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    public void setMaxKeys(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    private static final class Window {
+        final long start;
+        final AtomicInteger passed = new AtomicInteger();
+        final AtomicInteger suppressed = new AtomicInteger();
+
+        Window(long start) {
+            this.start = start;
+        }
+    }
+}
@@ -2,17 +2,26 @@ package com.ascent.coursebuddybackend.config;
 
 import java.io.IOException;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.ApplicationContext;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.ascent.coursebuddybackend.Service.CustomUserDetailsService;
 import com.ascent.coursebuddybackend.Service.JWTService;
+import com.ascent.coursebuddybackend.Service.PrincipalCache;
+import com.ascent.coursebuddybackend.Service.TokenRevocationService;
+import com.ascent.coursebuddybackend.entity.CustomUserDetails;
+import com.ascent.coursebuddybackend.entity.Users;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -21,27 +30,43 @@ import jakarta.servlet.http.HttpServletResponse;
 
 @Component
 public class JwtFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(JwtFilter.class);
+
     @Autowired
     private JWTService jwtService;
 
     @Autowired
-    private ApplicationContext applicationContext;
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    // When enabled, the principal is built from the verified token claims and
+    // no user lookup happens at all
+    @Value("${app.security.stateless-auth:false}")
+    private boolean statelessAuth;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String authHeader = request.getHeader("Authorization");
-        String token = null;
+        Claims claims = null;
         String username = null;
 
         try {
             if(authHeader != null && authHeader.startsWith("Bearer ")){
-                token = authHeader.substring(7);
-                username = jwtService.extractUserName(token);
+                // Parse and verify once; subject, role and expiry all come from this result
+                claims = jwtService.parseVerifiedClaims(authHeader.substring(7));
+                username = claims.getSubject();
             }
             
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null){
-                UserDetails userDetails = applicationContext.getBean(CustomUserDetailsService.class).loadUserByUsername(username);
+            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null
+                    && !tokenRevocationService.isRevoked(username, jwtService.extractIssuedAtMillis(claims))){
+                UserDetails userDetails = statelessAuth ? principalFromClaims(claims) : null;
+                if (userDetails == null) {
+                    userDetails = principalCache.get(username);
+                }
                 
-                if(jwtService.validateToken(token, userDetails)){
+                if(jwtService.isTokenValid(claims, userDetails)){
                     UsernamePasswordAuthenticationToken authToken =
                             new UsernamePasswordAuthenticationToken(
                                     userDetails,
@@ -52,11 +77,28 @@ public class JwtFilter extends OncePerRequestFilter {
                     SecurityContextHolder.getContext().setAuthentication(authToken);
                 }
             }
-        } catch (Exception e) {
-            System.err.println("JWT Filter Error: " + e.getMessage());
-            e.printStackTrace();
+        } catch (JwtException | IllegalArgumentException | AuthenticationException e) {
+            // Expired, malformed or unknown-user tokens are routine; the request
+            // just continues unauthenticated, so no stack trace
+            log.debug("Rejected bearer token: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("Could not authenticate bearer token", e);
         }
         
         filterChain.doFilter(request, response);
     }
+
+    // Tokens minted before the uid claim existed fall back to the database path
+    private UserDetails principalFromClaims(Claims claims) {
+        Integer userId = claims.get(JWTService.USER_ID_CLAIM, Integer.class);
+        String role = claims.get(JWTService.ROLE_CLAIM, String.class);
+        if (userId == null || role == null) {
+            return null;
+        }
+        Users user = new Users();
+        user.setId(userId);
+        user.setUsername(claims.getSubject());
+        user.setRole(role);
+        return new CustomUserDetails(user);
+    }
 }
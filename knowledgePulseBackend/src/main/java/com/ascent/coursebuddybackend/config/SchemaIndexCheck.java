@@ -0,0 +1,122 @@
+package com.ascent.coursebuddybackend.config;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Fails startup when an index the repository queries rely on is missing, e.g.
+// dropped by hand or never created because migrations were skipped. Flyway
+// validates the applied migrations and ddl-auto=validate checks tables and
+// columns, but neither looks at indexes. Indexes are matched on their key
+// columns rather than their names, since databases created by ddl-auto=update
+// carry Hibernate's generated constraint names.
+@Component
+@ConditionalOnProperty(name = "app.schema.verify-indexes", havingValue = "true", matchIfMissing = true)
+public class SchemaIndexCheck implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaIndexCheck.class);
+
+    // Keep in step with db/migration
+    private static final List<ExpectedIndex> EXPECTED = List.of(
+            new ExpectedIndex("users", true, "username"),
+            new ExpectedIndex("users", false, "credentials_changed_at"),
+            new ExpectedIndex("students", true, "user_id"),
+            new ExpectedIndex("courses", true, "course_code"),
+            new ExpectedIndex("courses", false, "credits", "id"),
+            new ExpectedIndex("courses", false, "instructor", "id"),
+            new ExpectedIndex("courses", false, "course_name", "id"),
+            new ExpectedIndex("courses", false, "created_at", "id"),
+            new ExpectedIndex("courses", false, "created_by"),
+            new ExpectedIndex("student_courses", true, "student_id", "course_id"),
+            new ExpectedIndex("student_courses", false, "course_id", "student_id"),
+            new ExpectedIndex("student_courses", false, "enrolled_at"),
+            new ExpectedIndex("course_waitlist", true, "course_id", "student_id"),
+            new ExpectedIndex("course_waitlist", false, "course_id", "id"),
+            new ExpectedIndex("lessons", false, "course_id", "position"),
+            new ExpectedIndex("lesson_files", false, "lesson_id"),
+            new ExpectedIndex("course_reviews", true, "course_id", "student_id"),
+            new ExpectedIndex("course_reviews", false, "course_id", "id"),
+            new ExpectedIndex("outbox_events", false, "dispatched_at", "id")
+    );
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        List<ExpectedIndex> missing = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            Map<String, List<IndexKey>> actualByTable = new HashMap<>();
+            for (ExpectedIndex expected : EXPECTED) {
+                List<IndexKey> actual = actualByTable.get(expected.table());
+                if (actual == null) {
+                    actual = readIndexes(metaData, connection, expected.table());
+                    actualByTable.put(expected.table(), actual);
+                }
+                // A unique index also satisfies a non-unique expectation
+                boolean found = actual.stream().anyMatch(index ->
+                        index.columns().equals(expected.columns()) && (index.unique() || !expected.unique()));
+                if (!found) {
+                    missing.add(expected);
+                }
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Database schema has drifted from db/migration, missing indexes: " + missing);
+        }
+        log.info("Schema index check passed ({} indexes)", EXPECTED.size());
+    }
+
+    private static List<IndexKey> readIndexes(DatabaseMetaData metaData, Connection connection, String table)
+            throws SQLException {
+        // index name -> key columns; rows arrive ordered by index name, then ordinal position
+        Map<String, IndexKey> indexes = new LinkedHashMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, false, true)) {
+            while (rs.next()) {
+                String name = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (name == null || column == null) {
+                    // Table statistics row
+                    continue;
+                }
+                boolean unique = !rs.getBoolean("NON_UNIQUE");
+                indexes.computeIfAbsent(name, n -> new IndexKey(unique, new ArrayList<>()))
+                        .columns().add(column.toLowerCase(Locale.ROOT));
+            }
+        }
+        return new ArrayList<>(indexes.values());
+    }
+
+    private record ExpectedIndex(String table, boolean unique, List<String> columns) {
+        ExpectedIndex(String table, boolean unique, String... columns) {
+            this(table, unique, List.of(columns));
+        }
+
+        @Override
+        public String toString() {
+            return table + "(" + String.join(", ", columns) + ")" + (unique ? " unique" : "");
+        }
+    }
+
+    private record IndexKey(boolean unique, List<String> columns) {
+    }
+}
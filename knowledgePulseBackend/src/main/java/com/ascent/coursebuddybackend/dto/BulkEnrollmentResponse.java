@@ -0,0 +1,17 @@
+package com.ascent.coursebuddybackend.dto;
+
+import java.util.List;
+
+public record BulkEnrollmentResponse(
+        int total,
+        long enrolled,
+        long skipped,
+        List<BulkEnrollmentResult> results
+) {
+    public static BulkEnrollmentResponse of(List<BulkEnrollmentResult> results) {
+        long enrolled = results.stream()
+                .filter(result -> result.status() == BulkEnrollmentResult.Status.ENROLLED)
+                .count();
+        return new BulkEnrollmentResponse(results.size(), enrolled, results.size() - enrolled, results);
+    }
+}
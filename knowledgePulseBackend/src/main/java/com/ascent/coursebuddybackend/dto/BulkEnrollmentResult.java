@@ -0,0 +1,21 @@
+package com.ascent.coursebuddybackend.dto;
+
+// Outcome of one row of a bulk enrollment request; row is zero-based
+public record BulkEnrollmentResult(
+        int row,
+        Long studentId,
+        Long courseId,
+        Status status,
+        String message
+) {
+    public enum Status {
+        ENROLLED,
+        ALREADY_ENROLLED,
+        DUPLICATE_ROW,
+        STUDENT_NOT_FOUND,
+        COURSE_NOT_FOUND,
+        COURSE_FULL,
+        INVALID,
+        FAILED
+    }
+}
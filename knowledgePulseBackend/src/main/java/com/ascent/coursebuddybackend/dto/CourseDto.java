@@ -0,0 +1,40 @@
+package com.ascent.coursebuddybackend.dto;
+
+import java.time.LocalDateTime;
+
+import com.ascent.coursebuddybackend.entity.Course;
+import com.ascent.coursebuddybackend.entity.RatingHistogram;
+
+// Read-only view of a course for catalog responses; carries no lazy associations
+public record CourseDto(
+        Long id,
+        String courseCode,
+        String courseName,
+        String description,
+        Integer credits,
+        String instructor,
+        Integer capacity,
+        LocalDateTime createdAt,
+        Double averageRating,
+        int ratingCount
+) {
+    public static CourseDto from(Course course) {
+        return new CourseDto(
+                course.getId(),
+                course.getCourseCode(),
+                course.getCourseName(),
+                course.getDescription(),
+                course.getCredits(),
+                course.getInstructor(),
+                course.getCapacity(),
+                course.getCreatedAt(),
+                course.getRatings() == null ? null : course.getRatings().average(),
+                course.getRatings() == null ? 0 : course.getRatings().count()
+        );
+    }
+
+    public CourseDto withRatings(RatingHistogram ratings) {
+        return new CourseDto(id, courseCode, courseName, description, credits, instructor, capacity, createdAt,
+                ratings.average(), ratings.count());
+    }
+}
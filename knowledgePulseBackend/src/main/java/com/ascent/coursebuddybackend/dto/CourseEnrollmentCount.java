@@ -0,0 +1,7 @@
+package com.ascent.coursebuddybackend.dto;
+
+public record CourseEnrollmentCount(
+        Long courseId,
+        long enrollments
+) {
+}
@@ -0,0 +1,24 @@
+package com.ascent.coursebuddybackend.dto;
+
+// Optional catalog filters bound from query parameters; null means "any"
+public record CourseFilter(
+        Integer credits,
+        String instructor,
+        String courseCode
+) {
+    public boolean isEmpty() {
+        return credits == null && isBlank(instructor) && isBlank(courseCode);
+    }
+
+    public String instructorOrNull() {
+        return isBlank(instructor) ? null : instructor.trim();
+    }
+
+    public String courseCodeOrNull() {
+        return isBlank(courseCode) ? null : courseCode.trim();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
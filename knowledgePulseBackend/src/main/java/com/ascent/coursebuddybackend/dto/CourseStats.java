@@ -0,0 +1,20 @@
+package com.ascent.coursebuddybackend.dto;
+
+import java.time.LocalDate;
+import java.util.SortedMap;
+
+// Enrollment figures for one course. creditTotal is credits x enrollments;
+// enrollmentsPerDay covers current enrollments made within the stats window,
+// keyed by the day they were made.
+public record CourseStats(
+        Long courseId,
+        String courseCode,
+        String courseName,
+        Integer credits,
+        Integer capacity,
+        long enrollments,
+        Long seatsRemaining,
+        long creditTotal,
+        SortedMap<LocalDate, Long> enrollmentsPerDay
+) {
+}
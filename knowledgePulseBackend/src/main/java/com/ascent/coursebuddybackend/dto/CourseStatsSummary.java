@@ -0,0 +1,13 @@
+package com.ascent.coursebuddybackend.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record CourseStatsSummary(
+        int totalCourses,
+        long totalEnrollments,
+        long totalCreditsEnrolled,
+        List<CourseStats> courses,
+        LocalDateTime reconciledAt
+) {
+}
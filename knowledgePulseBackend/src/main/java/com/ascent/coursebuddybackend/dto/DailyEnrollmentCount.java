@@ -0,0 +1,10 @@
+package com.ascent.coursebuddybackend.dto;
+
+import java.time.LocalDate;
+
+public record DailyEnrollmentCount(
+        Long courseId,
+        LocalDate day,
+        long enrollments
+) {
+}
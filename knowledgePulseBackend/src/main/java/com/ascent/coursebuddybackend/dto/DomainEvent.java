@@ -0,0 +1,25 @@
+package com.ascent.coursebuddybackend.dto;
+
+import java.time.LocalDateTime;
+
+import com.ascent.coursebuddybackend.entity.OutboxEvent;
+
+// Immutable copy of an outbox row handed to DomainEventListeners; studentId or
+// courseId is null when the event type has no such subject
+public record DomainEvent(
+        Long id,
+        OutboxEvent.Type type,
+        Long studentId,
+        Long courseId,
+        LocalDateTime occurredAt
+) {
+    public static DomainEvent from(OutboxEvent event) {
+        return new DomainEvent(
+                event.getId(),
+                event.getType(),
+                event.getStudentId(),
+                event.getCourseId(),
+                event.getCreatedAt()
+        );
+    }
+}
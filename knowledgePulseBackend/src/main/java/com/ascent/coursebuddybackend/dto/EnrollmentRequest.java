@@ -0,0 +1,7 @@
+package com.ascent.coursebuddybackend.dto;
+
+public record EnrollmentRequest(
+        Long studentId,
+        Long courseId
+) {
+}
@@ -0,0 +1,20 @@
+package com.ascent.coursebuddybackend.dto;
+
+public record EnrollmentResult(
+        Status status,
+        Long waitlistPosition
+) {
+    public enum Status {
+        ENROLLED,
+        ALREADY_ENROLLED,
+        WAITLISTED
+    }
+
+    public static EnrollmentResult of(Status status) {
+        return new EnrollmentResult(status, null);
+    }
+
+    public static EnrollmentResult waitlisted(long position) {
+        return new EnrollmentResult(Status.WAITLISTED, position);
+    }
+}
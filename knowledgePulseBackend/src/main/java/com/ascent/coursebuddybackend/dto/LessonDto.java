@@ -0,0 +1,30 @@
+package com.ascent.coursebuddybackend.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.ascent.coursebuddybackend.entity.Lesson;
+
+public record LessonDto(
+        Long id,
+        Long courseId,
+        Integer position,
+        String title,
+        String description,
+        Integer durationMinutes,
+        LocalDateTime createdAt,
+        List<LessonFileDto> files
+) {
+    public static LessonDto from(Lesson lesson, List<LessonFileDto> files) {
+        return new LessonDto(
+                lesson.getId(),
+                lesson.getCourseId(),
+                lesson.getPosition(),
+                lesson.getTitle(),
+                lesson.getDescription(),
+                lesson.getDurationMinutes(),
+                lesson.getCreatedAt(),
+                files
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.ascent.coursebuddybackend.dto;
+
+import com.ascent.coursebuddybackend.entity.LessonFile;
+
+public record LessonFileDto(
+        Long id,
+        LessonFile.Kind kind,
+        String fileName,
+        String contentType,
+        long size,
+        String url
+) {
+    public static LessonFileDto from(LessonFile file, Long courseId) {
+        return new LessonFileDto(
+                file.getId(),
+                file.getKind(),
+                file.getFileName(),
+                file.getContentType(),
+                file.getSize(),
+                "/api/courses/" + courseId + "/lessons/" + file.getLessonId() + "/files/" + file.getId()
+        );
+    }
+}
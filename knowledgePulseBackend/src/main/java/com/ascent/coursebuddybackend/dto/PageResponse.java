@@ -0,0 +1,33 @@
+package com.ascent.coursebuddybackend.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+
+// Page envelope for list endpoints. Offset pages fill in totalElements and
+// totalPages; keyset pages leave them null and hand back nextCursor instead.
+public record PageResponse<T>(
+        List<T> content,
+        Integer page,
+        int size,
+        Long totalElements,
+        Integer totalPages,
+        boolean hasNext,
+        Long nextCursor
+) {
+    public static <T> PageResponse<T> of(Page<T> page) {
+        return new PageResponse<>(
+                page.getContent(),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages(),
+                page.hasNext(),
+                null
+        );
+    }
+
+    public static <T> PageResponse<T> ofKeyset(List<T> content, int size, boolean hasNext, Long nextCursor) {
+        return new PageResponse<>(content, null, size, null, null, hasNext, hasNext ? nextCursor : null);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ascent.coursebuddybackend.dto;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.ascent.coursebuddybackend.entity.RatingHistogram;
+
+// histogram maps each star value (1-5) to its number of reviews
+public record RatingSummary(
+        Long courseId,
+        int count,
+        Double average,
+        Map<Integer, Integer> histogram
+) {
+    public static RatingSummary from(Long courseId, RatingHistogram ratings) {
+        Map<Integer, Integer> histogram = new TreeMap<>();
+        histogram.put(1, ratings.getStars1());
+        histogram.put(2, ratings.getStars2());
+        histogram.put(3, ratings.getStars3());
+        histogram.put(4, ratings.getStars4());
+        histogram.put(5, ratings.getStars5());
+        return new RatingSummary(courseId, ratings.count(), ratings.average(), histogram);
+    }
+}
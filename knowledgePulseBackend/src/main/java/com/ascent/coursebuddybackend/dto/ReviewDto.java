@@ -0,0 +1,36 @@
+package com.ascent.coursebuddybackend.dto;
+
+import java.time.LocalDateTime;
+
+import com.ascent.coursebuddybackend.entity.Review;
+
+public record ReviewDto(
+        Long id,
+        Long courseId,
+        Long studentId,
+        String studentName,
+        Integer rating,
+        String comment,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    // Used by the review list query, which joins the author's name
+    public ReviewDto(Long id, Long courseId, Long studentId, String firstName, String lastName, Integer rating,
+                     String comment, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, courseId, studentId, firstName == null ? null : (firstName + " " + lastName).trim(), rating,
+                comment, createdAt, updatedAt);
+    }
+
+    public static ReviewDto from(Review review, String studentName) {
+        return new ReviewDto(
+                review.getId(),
+                review.getCourseId(),
+                review.getStudentId(),
+                studentName,
+                review.getRating(),
+                review.getComment(),
+                review.getCreatedAt(),
+                review.getUpdatedAt()
+        );
+    }
+}
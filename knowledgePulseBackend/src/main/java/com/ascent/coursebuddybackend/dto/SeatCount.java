@@ -0,0 +1,11 @@
+package com.ascent.coursebuddybackend.dto;
+
+public record SeatCount(
+        Integer capacity,
+        int enrolledCount
+) {
+    // Seats still free, or null when the course has no capacity limit
+    public Integer remaining() {
+        return capacity == null ? null : Math.max(0, capacity - enrolledCount);
+    }
+}
@@ -0,0 +1,45 @@
+package com.ascent.coursebuddybackend.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.ascent.coursebuddybackend.entity.Student;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Read-only view of a student. Built from entities whose user (and, for
+// from(), courses) were fetched up front, so serializing it never triggers
+// lazy loading. Roster entries leave courses null and omit it from the JSON.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record StudentDto(
+        Long id,
+        String firstName,
+        String lastName,
+        String phone,
+        String highestEducation,
+        String address,
+        LocalDateTime createdAt,
+        UserSummary user,
+        List<CourseDto> courses
+) {
+    public static StudentDto from(Student student) {
+        return of(student, student.getCourses().stream().map(CourseDto::from).toList());
+    }
+
+    public static StudentDto withoutCourses(Student student) {
+        return of(student, null);
+    }
+
+    private static StudentDto of(Student student, List<CourseDto> courses) {
+        return new StudentDto(
+                student.getId(),
+                student.getFirstName(),
+                student.getLastName(),
+                student.getPhone(),
+                student.getHighestEducation(),
+                student.getAddress(),
+                student.getCreatedAt(),
+                UserSummary.from(student.getUser()),
+                courses
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package com.ascent.coursebuddybackend.dto;
+
+import java.time.LocalDateTime;
+
+// One row of the flattened students x enrollments export query. Course
+// columns are null for students without enrollments.
+public record StudentEnrollmentRow(
+        Long studentId,
+        String firstName,
+        String lastName,
+        String phone,
+        String highestEducation,
+        String address,
+        LocalDateTime createdAt,
+        String username,
+        Long courseId,
+        String courseCode,
+        String courseName
+) {
+}
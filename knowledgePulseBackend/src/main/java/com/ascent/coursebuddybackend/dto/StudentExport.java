@@ -0,0 +1,20 @@
+package com.ascent.coursebuddybackend.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// One exported student with the courses they are enrolled in
+public record StudentExport(
+        Long id,
+        String firstName,
+        String lastName,
+        String phone,
+        String highestEducation,
+        String address,
+        LocalDateTime createdAt,
+        String username,
+        List<EnrolledCourse> courses
+) {
+    public record EnrolledCourse(Long id, String courseCode, String courseName) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.ascent.coursebuddybackend.dto;
+
+import com.ascent.coursebuddybackend.entity.Users;
+
+public record UserSummary(
+        int id,
+        String username,
+        String role
+) {
+    public static UserSummary from(Users user) {
+        return user == null ? null : new UserSummary(user.getId(), user.getUsername(), user.getRole());
+    }
+}
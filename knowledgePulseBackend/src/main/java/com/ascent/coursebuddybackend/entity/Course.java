@@ -9,8 +9,10 @@ import java.util.Set;
 import org.springframework.security.core.GrantedAuthority;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -21,6 +23,7 @@ import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -55,6 +58,30 @@ public class Course {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    // Maximum number of enrolled students; null means unlimited
+    @Column(name = "capacity")
+    private Integer capacity;
+
+    // Seats taken. Only ever changed by the conditional seat updates in
+    // CourseRepository, never by saving the entity, so concurrent enrollments
+    // are not overwritten by a stale copy.
+    @Column(name = "enrolled_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "int default 0")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private int enrolledCount;
+
+    // Review counts per star, maintained incrementally by ReviewService
+    @Embedded
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private RatingHistogram ratings = new RatingHistogram();
+
+    // Optimistic lock for course edits, which send back the version they were
+    // made against. Seat updates go through their own statements and
+    // deliberately do not bump it.
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @ManyToMany(mappedBy = "courses", fetch = FetchType.LAZY)
     @JsonIgnoreProperties({"courses", "hibernateLazyInitializer", "handler"})
     private final Set<Student> students = new HashSet<>();
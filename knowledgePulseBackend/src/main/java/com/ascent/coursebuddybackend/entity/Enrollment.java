@@ -0,0 +1,69 @@
+package com.ascent.coursebuddybackend.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Persistable;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// A single row of the student_courses join table behind Student.courses.
+// Lets enrollments be inserted, checked and deleted by key without loading
+// either side of the many-to-many association.
+@Entity
+@Table(name = "student_courses")
+@NoArgsConstructor
+@Getter
+@Setter
+public class Enrollment implements Persistable<EnrollmentId> {
+
+    @EmbeddedId
+    private EnrollmentId id;
+
+    // Null for rows written before this column existed
+    @Column(name = "enrolled_at")
+    private LocalDateTime enrolledAt;
+
+    // The id is assigned, so tell Spring Data to persist rather than merge
+    // (which would select the row first)
+    @Transient
+    @JsonIgnore
+    private boolean isNew = true;
+
+    public Enrollment(EnrollmentId id) {
+        this.id = id;
+    }
+
+    public Enrollment(Long studentId, Long courseId) {
+        this(new EnrollmentId(studentId, courseId));
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        if (enrolledAt == null) {
+            enrolledAt = LocalDateTime.now();
+        }
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
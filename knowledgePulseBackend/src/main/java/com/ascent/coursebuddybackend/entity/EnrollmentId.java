@@ -0,0 +1,26 @@
+package com.ascent.coursebuddybackend.entity;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+public class EnrollmentId implements Serializable {
+
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Column(name = "course_id", nullable = false)
+    private Long courseId;
+}
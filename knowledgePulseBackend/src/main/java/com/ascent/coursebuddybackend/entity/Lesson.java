@@ -0,0 +1,56 @@
+package com.ascent.coursebuddybackend.entity;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// One lesson of a course. Lessons are listed by position (1-based, kept
+// contiguous by LessonService); media and attachments are LessonFile rows.
+@Entity
+@Table(name = "lessons",
+        indexes = @Index(name = "ix_lessons_course_position", columnList = "course_id, position"))
+@NoArgsConstructor
+@Getter
+@Setter
+public class Lesson {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "course_id", nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long courseId;
+
+    @Column(name = "position", nullable = false)
+    private Integer position;
+
+    @Column(name = "title", nullable = false, length = 200)
+    private String title;
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "duration_minutes")
+    private Integer durationMinutes;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,66 @@
+package com.ascent.coursebuddybackend.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// A domain event, written in the same transaction as the change it describes,
+// so the row exists exactly when that change committed. dispatchedAt stays
+// null until OutboxDispatcher has handed the event to its listeners.
+@Entity
+@Table(name = "outbox_events",
+        indexes = @Index(name = "ix_outbox_events_pending", columnList = "dispatched_at, id"))
+@NoArgsConstructor
+@Getter
+@Setter
+public class OutboxEvent {
+
+    public enum Type { STUDENT_ENROLLED, STUDENT_UNENROLLED, COURSE_CREATED, STUDENT_REGISTERED }
+
+    // Sequence ids are assigned without a round trip per row, so the events a
+    // bulk enrollment writes go out as JDBC batches; IDENTITY would not batch
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 40)
+    private Type type;
+
+    @Column(name = "student_id")
+    private Long studentId;
+
+    @Column(name = "course_id")
+    private Long courseId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "dispatched_at")
+    private LocalDateTime dispatchedAt;
+
+    public OutboxEvent(Type type, Long studentId, Long courseId) {
+        this.type = type;
+        this.studentId = studentId;
+        this.courseId = courseId;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,44 @@
+package com.ascent.coursebuddybackend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Number of reviews per star rating for one course. The columns are only
+// changed by CourseRepository.adjustRatings as reviews are written, so the
+// average and distribution never need an aggregate over the reviews table.
+@Embeddable
+@NoArgsConstructor
+@Getter
+public class RatingHistogram {
+
+    @Column(name = "rating_1", nullable = false, insertable = false, updatable = false, columnDefinition = "int default 0")
+    private int stars1;
+
+    @Column(name = "rating_2", nullable = false, insertable = false, updatable = false, columnDefinition = "int default 0")
+    private int stars2;
+
+    @Column(name = "rating_3", nullable = false, insertable = false, updatable = false, columnDefinition = "int default 0")
+    private int stars3;
+
+    @Column(name = "rating_4", nullable = false, insertable = false, updatable = false, columnDefinition = "int default 0")
+    private int stars4;
+
+    @Column(name = "rating_5", nullable = false, insertable = false, updatable = false, columnDefinition = "int default 0")
+    private int stars5;
+
+    public int count() {
+        return stars1 + stars2 + stars3 + stars4 + stars5;
+    }
+
+    // Null when the course has no reviews yet
+    public Double average() {
+        int count = count();
+        if (count == 0) {
+            return null;
+        }
+        long total = stars1 + 2L * stars2 + 3L * stars3 + 4L * stars4 + 5L * stars5;
+        return (double) total / count;
+    }
+}
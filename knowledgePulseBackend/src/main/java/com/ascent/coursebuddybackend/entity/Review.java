@@ -0,0 +1,73 @@
+package com.ascent.coursebuddybackend.entity;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// A student's rating (1-5) and comment for a course; one per student per course.
+@Entity
+@Table(name = "course_reviews",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"course_id", "student_id"}),
+        indexes = @Index(name = "ix_course_reviews_course", columnList = "course_id, id"))
+@NoArgsConstructor
+@Getter
+@Setter
+public class Review {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "course_id", nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long courseId;
+
+    @Column(name = "student_id", nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long studentId;
+
+    @Column(name = "rating", nullable = false)
+    private Integer rating;
+
+    @Column(name = "comment", columnDefinition = "TEXT")
+    private String comment;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // The course histogram is adjusted from the rating read in the same
+    // transaction, so two concurrent edits of one review must not both commit
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
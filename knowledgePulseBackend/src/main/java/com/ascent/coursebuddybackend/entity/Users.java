@@ -1,5 +1,7 @@
 package com.ascent.coursebuddybackend.entity;
 
+import java.time.LocalDateTime;
+
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -21,4 +23,7 @@ public class Users {
     private String password;
     @Column(nullable = false)
     private String role;
+    // Tokens issued before this instant are rejected by JwtFilter
+    @Column(name = "credentials_changed_at")
+    private LocalDateTime credentialsChangedAt;
 }
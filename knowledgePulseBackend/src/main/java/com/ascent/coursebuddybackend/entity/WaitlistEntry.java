@@ -0,0 +1,51 @@
+package com.ascent.coursebuddybackend.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// A student waiting for a seat in a full course. The identity column gives
+// the queue order: the lowest id for a course is promoted first.
+@Entity
+@Table(name = "course_waitlist",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"course_id", "student_id"}),
+        indexes = @Index(name = "ix_course_waitlist_course", columnList = "course_id, id"))
+@NoArgsConstructor
+@Getter
+@Setter
+public class WaitlistEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "course_id", nullable = false)
+    private Long courseId;
+
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    public WaitlistEntry(Long courseId, Long studentId) {
+        this.courseId = courseId;
+        this.studentId = studentId;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
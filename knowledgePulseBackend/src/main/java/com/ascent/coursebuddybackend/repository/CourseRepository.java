@@ -1,12 +1,93 @@
 package com.ascent.coursebuddybackend.repository;
 
+import com.ascent.coursebuddybackend.dto.SeatCount;
 import com.ascent.coursebuddybackend.entity.Course;
+import com.ascent.coursebuddybackend.entity.RatingHistogram;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long> {
+    // Null parameters disable the matching condition
+    String CATALOG_FILTER = "(:credits is null or c.credits = :credits)"
+            + " and (:instructor is null or lower(c.instructor) like lower(concat('%', :instructor, '%')))"
+            + " and (:courseCode is null or c.courseCode like concat(:courseCode, '%'))";
+
     Optional<Course> findByCourseCode(String courseCode);
     boolean existsByCourseCode(String courseCode);
+
+    // Loads the course, its roster and each student's user in a single select
+    @EntityGraph(attributePaths = {"students", "students.user"})
+    @Query("select c from Course c where c.id = :id")
+    Optional<Course> findWithStudentsById(@Param("id") Long id);
+
+    @Query(value = "select c from Course c where " + CATALOG_FILTER,
+            countQuery = "select count(c) from Course c where " + CATALOG_FILTER)
+    Page<Course> findCatalogPage(@Param("credits") Integer credits,
+                                 @Param("instructor") String instructor,
+                                 @Param("courseCode") String courseCode,
+                                 Pageable pageable);
+
+    // Keyset page ordered by id: no offset scan and no count query
+    @Query("select c from Course c where c.id > :afterId and " + CATALOG_FILTER + " order by c.id")
+    Slice<Course> findCatalogPageAfter(@Param("credits") Integer credits,
+                                       @Param("instructor") String instructor,
+                                       @Param("courseCode") String courseCode,
+                                       @Param("afterId") Long afterId,
+                                       Pageable pageable);
+
+    @Query("select c.id from Course c where c.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Takes seats only if they fit; returns 0 when the course is full or missing.
+    // The row is locked only from this statement until the caller commits.
+    @Modifying
+    @Query("update Course c set c.enrolledCount = c.enrolledCount + :seats"
+            + " where c.id = :id and (c.capacity is null or c.enrolledCount + :seats <= c.capacity)")
+    int reserveSeats(@Param("id") Long id, @Param("seats") int seats);
+
+    @Modifying
+    @Query("update Course c set c.enrolledCount = c.enrolledCount - :seats"
+            + " where c.id = :id and c.enrolledCount >= :seats")
+    int releaseSeats(@Param("id") Long id, @Param("seats") int seats);
+
+    // Moves one review into the `added` star bucket and out of the `removed`
+    // one; 0 means none, so (5, 0) is a new review and (0, 3) a deletion
+    @Modifying
+    @Query("update Course c set"
+            + " c.ratings.stars1 = c.ratings.stars1 + (case when :added = 1 then 1 else 0 end) - (case when :removed = 1 then 1 else 0 end),"
+            + " c.ratings.stars2 = c.ratings.stars2 + (case when :added = 2 then 1 else 0 end) - (case when :removed = 2 then 1 else 0 end),"
+            + " c.ratings.stars3 = c.ratings.stars3 + (case when :added = 3 then 1 else 0 end) - (case when :removed = 3 then 1 else 0 end),"
+            + " c.ratings.stars4 = c.ratings.stars4 + (case when :added = 4 then 1 else 0 end) - (case when :removed = 4 then 1 else 0 end),"
+            + " c.ratings.stars5 = c.ratings.stars5 + (case when :added = 5 then 1 else 0 end) - (case when :removed = 5 then 1 else 0 end)"
+            + " where c.id = :id")
+    int adjustRatings(@Param("id") Long id, @Param("added") int added, @Param("removed") int removed);
+
+    @Query("select c.id from Course c order by c.createdAt desc, c.id desc")
+    List<Long> findNewestIds(Pageable pageable);
+
+    @Query("select c.ratings from Course c where c.id = :id")
+    Optional<RatingHistogram> findRatings(@Param("id") Long id);
+
+    @Query("select new com.ascent.coursebuddybackend.dto.SeatCount(c.capacity, c.enrolledCount) from Course c where c.id = :id")
+    Optional<SeatCount> findSeatCount(@Param("id") Long id);
+
+    // Re-derives every course's enrolled_count from student_courses
+    @Transactional
+    @Modifying
+    @Query(value = "update courses set enrolled_count ="
+            + " (select count(*) from student_courses sc where sc.course_id = courses.id)", nativeQuery = true)
+    int recountEnrollments();
 }
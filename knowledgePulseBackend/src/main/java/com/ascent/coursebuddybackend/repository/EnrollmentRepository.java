@@ -0,0 +1,44 @@
+package com.ascent.coursebuddybackend.repository;
+
+import com.ascent.coursebuddybackend.dto.CourseEnrollmentCount;
+import com.ascent.coursebuddybackend.dto.DailyEnrollmentCount;
+import com.ascent.coursebuddybackend.entity.Enrollment;
+import com.ascent.coursebuddybackend.entity.EnrollmentId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EnrollmentRepository extends JpaRepository<Enrollment, EnrollmentId> {
+    // Single-row delete by primary key, without loading the row first
+    @Modifying
+    @Query("delete from Enrollment e where e.id = :id")
+    int deleteByKey(@Param("id") EnrollmentId id);
+
+    // Superset of the existing pairs among the given ids; callers match exact pairs
+    @Query("select e.id from Enrollment e where e.id.studentId in :studentIds and e.id.courseId in :courseIds")
+    List<EnrollmentId> findExisting(@Param("studentIds") Collection<Long> studentIds,
+                                    @Param("courseIds") Collection<Long> courseIds);
+
+    @Query("select e.id.courseId from Enrollment e where e.id.studentId = :studentId")
+    List<Long> findCourseIdsByStudent(@Param("studentId") Long studentId);
+
+    @Query("select e.enrolledAt from Enrollment e where e.id = :id")
+    Optional<LocalDateTime> findEnrolledAt(@Param("id") EnrollmentId id);
+
+    @Query("select new com.ascent.coursebuddybackend.dto.CourseEnrollmentCount(e.id.courseId, count(e))"
+            + " from Enrollment e group by e.id.courseId")
+    List<CourseEnrollmentCount> countByCourse();
+
+    @Query("select new com.ascent.coursebuddybackend.dto.DailyEnrollmentCount(e.id.courseId, cast(e.enrolledAt as LocalDate), count(e))"
+            + " from Enrollment e where e.enrolledAt >= :since"
+            + " group by e.id.courseId, cast(e.enrolledAt as LocalDate)")
+    List<DailyEnrollmentCount> countByCourseAndDaySince(@Param("since") LocalDateTime since);
+}
@@ -0,0 +1,26 @@
+package com.ascent.coursebuddybackend.repository;
+
+import com.ascent.coursebuddybackend.entity.LessonFile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LessonFileRepository extends JpaRepository<LessonFile, Long> {
+    List<LessonFile> findByLessonIdInOrderByIdAsc(Collection<Long> lessonIds);
+
+    Optional<LessonFile> findByIdAndLessonId(Long id, Long lessonId);
+
+    @Query("select f.storageKey from LessonFile f where f.lessonId in :lessonIds")
+    List<String> findStorageKeys(@Param("lessonIds") Collection<Long> lessonIds);
+
+    @Modifying
+    @Query("delete from LessonFile f where f.lessonId in :lessonIds")
+    int deleteByLessons(@Param("lessonIds") Collection<Long> lessonIds);
+}
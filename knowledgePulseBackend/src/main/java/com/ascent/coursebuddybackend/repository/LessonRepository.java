@@ -0,0 +1,35 @@
+package com.ascent.coursebuddybackend.repository;
+
+import com.ascent.coursebuddybackend.entity.Lesson;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LessonRepository extends JpaRepository<Lesson, Long> {
+    List<Lesson> findByCourseIdOrderByPositionAscIdAsc(Long courseId);
+
+    Optional<Lesson> findByIdAndCourseId(Long id, Long courseId);
+
+    @Query("select count(l) from Lesson l where l.courseId = :courseId")
+    int countByCourse(@Param("courseId") Long courseId);
+
+    // Moves every lesson in [from, to] by delta; used to open or close a gap
+    @Modifying
+    @Query("update Lesson l set l.position = l.position + :delta"
+            + " where l.courseId = :courseId and l.position between :from and :to")
+    int shiftPositions(@Param("courseId") Long courseId, @Param("from") int from, @Param("to") int to,
+                       @Param("delta") int delta);
+
+    @Query("select l.id from Lesson l where l.courseId = :courseId")
+    List<Long> findIdsByCourse(@Param("courseId") Long courseId);
+
+    @Modifying
+    @Query("delete from Lesson l where l.courseId = :courseId")
+    int deleteByCourse(@Param("courseId") Long courseId);
+}
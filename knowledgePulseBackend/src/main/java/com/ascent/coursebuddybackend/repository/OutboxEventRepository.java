@@ -0,0 +1,31 @@
+package com.ascent.coursebuddybackend.repository;
+
+import com.ascent.coursebuddybackend.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    // Oldest undispatched events; seeks ix_outbox_events_pending
+    @Query("select e from OutboxEvent e where e.dispatchedAt is null and e.createdAt < :before order by e.id")
+    List<OutboxEvent> findPending(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent e set e.dispatchedAt = :now where e.id in :ids")
+    int markDispatched(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from OutboxEvent e where e.dispatchedAt < :before")
+    int deleteDispatchedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,33 @@
+package com.ascent.coursebuddybackend.repository;
+
+import com.ascent.coursebuddybackend.dto.ReviewDto;
+import com.ascent.coursebuddybackend.entity.Review;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ReviewRepository extends JpaRepository<Review, Long> {
+    Optional<Review> findByIdAndCourseId(Long id, Long courseId);
+
+    boolean existsByCourseIdAndStudentId(Long courseId, Long studentId);
+
+    // Newest first, keyset by id: beforeId is the last id of the previous page.
+    // Reviews by since-deleted students are kept, with no name.
+    @Query("select new com.ascent.coursebuddybackend.dto.ReviewDto(r.id, r.courseId, r.studentId,"
+            + " s.firstName, s.lastName, r.rating, r.comment, r.createdAt, r.updatedAt)"
+            + " from Review r left join Student s on s.id = r.studentId"
+            + " where r.courseId = :courseId and r.id < :beforeId order by r.id desc")
+    Slice<ReviewDto> findPageBefore(@Param("courseId") Long courseId, @Param("beforeId") Long beforeId,
+                                    Pageable pageable);
+
+    @Modifying
+    @Query("delete from Review r where r.courseId = :courseId")
+    int deleteByCourse(@Param("courseId") Long courseId);
+}
@@ -1,14 +1,47 @@
 package com.ascent.coursebuddybackend.repository;
 
+import com.ascent.coursebuddybackend.dto.StudentEnrollmentRow;
 import com.ascent.coursebuddybackend.entity.Student;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long> {
     // Change from findByUserID to findByUser_Id (notice the underscore and proper casing)
     Student findByUser_Id(Long id);  // Also changed int to Long for consistency
     boolean existsById(Long id);
-}
\ No newline at end of file
+
+    @Query("select s.id from Student s where s.user.id = :userId")
+    Optional<Long> findIdByUserId(@Param("userId") int userId);
+
+    // Loads every student with user and courses in a single select
+    @EntityGraph(attributePaths = {"user", "courses"})
+    @Query("select distinct s from Student s")
+    List<Student> findAllWithUserAndCourses();
+
+    // Forward-only cursor over students joined with their enrollments, ordered
+    // so each student's rows are adjacent. Rows are projections, not managed
+    // entities, so nothing accumulates in the persistence context.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.ascent.coursebuddybackend.dto.StudentEnrollmentRow("
+            + "s.id, s.firstName, s.lastName, s.phone, s.highestEducation, s.address, s.createdAt, "
+            + "u.username, c.id, c.courseCode, c.courseName) "
+            + "from Student s join s.user u left join s.courses c "
+            + "order by s.id, c.id")
+    Stream<StudentEnrollmentRow> streamAllWithEnrollments();
+
+    @Query("select s.id from Student s where s.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+}
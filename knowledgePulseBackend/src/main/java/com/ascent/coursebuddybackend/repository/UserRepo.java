@@ -4,7 +4,11 @@ import com.ascent.coursebuddybackend.entity.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface UserRepo extends JpaRepository<Users, Integer> {
     Users findByUsername(String username);
+    List<Users> findByCredentialsChangedAtAfter(LocalDateTime since);
 }
@@ -0,0 +1,33 @@
+package com.ascent.coursebuddybackend.repository;
+
+import com.ascent.coursebuddybackend.entity.WaitlistEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface WaitlistRepository extends JpaRepository<WaitlistEntry, Long> {
+    Optional<WaitlistEntry> findByCourseIdAndStudentId(Long courseId, Long studentId);
+
+    Optional<WaitlistEntry> findFirstByCourseIdOrderByIdAsc(Long courseId);
+
+    // 1-based position of an entry in its course's queue
+    @Query("select count(w) from WaitlistEntry w where w.courseId = :courseId and w.id <= :id")
+    long positionOf(@Param("courseId") Long courseId, @Param("id") Long id);
+
+    @Modifying
+    @Query("delete from WaitlistEntry w where w.courseId = :courseId and w.studentId = :studentId")
+    int deleteByCourseAndStudent(@Param("courseId") Long courseId, @Param("studentId") Long studentId);
+
+    @Modifying
+    @Query("delete from WaitlistEntry w where w.courseId = :courseId")
+    int deleteByCourse(@Param("courseId") Long courseId);
+
+    @Modifying
+    @Query("delete from WaitlistEntry w where w.studentId = :studentId")
+    int deleteByStudent(@Param("studentId") Long studentId);
+}
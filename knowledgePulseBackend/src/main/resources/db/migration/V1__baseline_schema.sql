@@ -0,0 +1,49 @@
+-- Schema as produced by hibernate.ddl-auto=update before migrations were
+-- introduced. Databases that were created that way are baselined at this
+-- version (spring.flyway.baseline-on-migrate) and only pick up the migrations
+-- after it.
+
+create table users (
+    id int identity not null,
+    password varchar(100) not null,
+    role varchar(255) not null,
+    username varchar(100) not null,
+    constraint pk_users primary key (id),
+    constraint uk_users_username unique (username)
+);
+
+create table courses (
+    id bigint identity not null,
+    course_code varchar(20) not null,
+    course_name varchar(200) not null,
+    created_at datetime2(6),
+    credits int,
+    description text,
+    instructor varchar(200),
+    created_by int,
+    constraint pk_courses primary key (id),
+    constraint uk_courses_course_code unique (course_code),
+    constraint fk_courses_created_by foreign key (created_by) references users (id)
+);
+
+create table students (
+    id bigint identity not null,
+    address varchar(500),
+    created_at datetime2(6),
+    first_name varchar(100) not null,
+    highest_education varchar(255),
+    last_name varchar(100) not null,
+    phone varchar(20),
+    user_id int not null,
+    constraint pk_students primary key (id),
+    constraint uk_students_user unique (user_id),
+    constraint fk_students_user foreign key (user_id) references users (id)
+);
+
+create table student_courses (
+    student_id bigint not null,
+    course_id bigint not null,
+    constraint pk_student_courses primary key (student_id, course_id),
+    constraint fk_student_courses_student foreign key (student_id) references students (id),
+    constraint fk_student_courses_course foreign key (course_id) references courses (id)
+);
@@ -0,0 +1,97 @@
+-- Columns and tables added on top of the V1 baseline: token revocation,
+-- seat capacity and counters, optimistic locking, enrollment dates, the
+-- waitlist, lessons and reviews. New NOT NULL columns carry a default so
+-- existing rows are backfilled. Each step is skipped when it is already
+-- present, as on databases that ddl-auto=update kept in step before
+-- migrations were introduced.
+
+if col_length('users', 'credentials_changed_at') is null
+    alter table users add credentials_changed_at datetime2(6);
+
+if col_length('courses', 'capacity') is null
+    alter table courses add capacity int;
+if col_length('courses', 'enrolled_count') is null
+    alter table courses add enrolled_count int not null constraint df_courses_enrolled_count default 0;
+if col_length('courses', 'rating_1') is null
+    alter table courses add
+        rating_1 int not null constraint df_courses_rating_1 default 0,
+        rating_2 int not null constraint df_courses_rating_2 default 0,
+        rating_3 int not null constraint df_courses_rating_3 default 0,
+        rating_4 int not null constraint df_courses_rating_4 default 0,
+        rating_5 int not null constraint df_courses_rating_5 default 0;
+if col_length('courses', 'version') is null
+    alter table courses add version bigint not null constraint df_courses_version default 0;
+
+if col_length('students', 'version') is null
+    alter table students add version bigint not null constraint df_students_version default 0;
+
+if col_length('student_courses', 'enrolled_at') is null
+    alter table student_courses add enrolled_at datetime2(6);
+GO
+
+-- Seat counters start from the enrollments that already exist
+update courses set enrolled_count =
+    (select count(*) from student_courses sc where sc.course_id = courses.id);
+GO
+
+if object_id('course_waitlist', 'U') is null
+begin
+    create table course_waitlist (
+        id bigint identity not null,
+        course_id bigint not null,
+        created_at datetime2(6),
+        student_id bigint not null,
+        constraint pk_course_waitlist primary key (id),
+        constraint uk_course_waitlist_course_student unique (course_id, student_id)
+    );
+    create index ix_course_waitlist_course on course_waitlist (course_id, id);
+end
+
+if object_id('lessons', 'U') is null
+begin
+    create table lessons (
+        id bigint identity not null,
+        course_id bigint not null,
+        created_at datetime2(6),
+        description text,
+        duration_minutes int,
+        position int not null,
+        title varchar(200) not null,
+        constraint pk_lessons primary key (id)
+    );
+    create index ix_lessons_course_position on lessons (course_id, position);
+end
+
+if object_id('lesson_files', 'U') is null
+begin
+    create table lesson_files (
+        id bigint identity not null,
+        content_type varchar(100) not null,
+        created_at datetime2(6),
+        file_name varchar(255) not null,
+        kind varchar(20) not null check (kind in ('MEDIA', 'ATTACHMENT')),
+        lesson_id bigint not null,
+        sha256 varchar(64) not null,
+        size_bytes bigint not null,
+        storage_key varchar(36) not null,
+        constraint pk_lesson_files primary key (id)
+    );
+    create index ix_lesson_files_lesson on lesson_files (lesson_id);
+end
+
+if object_id('course_reviews', 'U') is null
+begin
+    create table course_reviews (
+        id bigint identity not null,
+        comment text,
+        course_id bigint not null,
+        created_at datetime2(6),
+        rating int not null,
+        student_id bigint not null,
+        updated_at datetime2(6),
+        version bigint not null constraint df_course_reviews_version default 0,
+        constraint pk_course_reviews primary key (id),
+        constraint uk_course_reviews_course_student unique (course_id, student_id)
+    );
+    create index ix_course_reviews_course on course_reviews (course_id, id);
+end
@@ -0,0 +1,39 @@
+-- Indexes for the repository query methods. Composite keys end in id where the
+-- query sorts or pages by id, so SQL Server can seek and read rows in order
+-- instead of sorting.
+
+-- Student.user is one-to-one; findByUser_Id / findIdByUserId look students up
+-- by it on every authenticated request. Hibernate 6 may already have added an
+-- unnamed unique constraint on databases created with ddl-auto=update.
+if not exists (
+    select 1
+    from sys.indexes i
+    join sys.index_columns ic on ic.object_id = i.object_id and ic.index_id = i.index_id
+    where i.object_id = object_id('students') and i.is_unique = 1
+    group by i.index_id
+    having count(*) = 1 and max(col_name(ic.object_id, ic.column_id)) = 'user_id'
+)
+    create unique index ux_students_user on students (user_id);
+
+-- The primary key leads with student_id, so anything keyed by course scanned
+-- the whole table: course rosters, EnrollmentRepository.countByCourse and
+-- CourseRepository.recountEnrollments
+create index ix_student_courses_course on student_courses (course_id, student_id) include (enrolled_at);
+
+-- EnrollmentRepository.countByCourseAndDaySince (enrolled_at >= :since)
+create index ix_student_courses_enrolled_at on student_courses (enrolled_at) include (course_id);
+
+-- Catalog sorts (CourseService.SORTABLE_FIELDS, always tie-broken on id) and
+-- the credits filter on the keyset catalog, which pages by id
+create index ix_courses_credits on courses (credits, id);
+create index ix_courses_instructor on courses (instructor, id);
+create index ix_courses_course_name on courses (course_name, id);
+create index ix_courses_created_at on courses (created_at, id);
+
+-- Foreign key from courses to users; without it deleting a user scans courses
+create index ix_courses_created_by on courses (created_by);
+
+-- TokenRevocationService reloads recently changed credentials on startup;
+-- almost every row is null
+create index ix_users_credentials_changed_at on users (credentials_changed_at)
+    where credentials_changed_at is not null;
@@ -0,0 +1,18 @@
+-- Transactional outbox for domain events (OutboxEvent). Increment matches the
+-- entity's allocationSize so Hibernate can hand out 50 ids per sequence call.
+create sequence outbox_events_seq start with 1 increment by 50;
+
+create table outbox_events (
+    id bigint not null,
+    course_id bigint,
+    created_at datetime2(6) not null,
+    dispatched_at datetime2(6),
+    event_type varchar(40) not null
+        check (event_type in ('STUDENT_ENROLLED', 'STUDENT_UNENROLLED', 'COURSE_CREATED', 'STUDENT_REGISTERED')),
+    student_id bigint,
+    constraint pk_outbox_events primary key (id)
+);
+
+-- Serves both the dispatcher's sweep (dispatched_at is null order by id) and
+-- the purge of old dispatched rows (dispatched_at < ?)
+create index ix_outbox_events_pending on outbox_events (dispatched_at, id);
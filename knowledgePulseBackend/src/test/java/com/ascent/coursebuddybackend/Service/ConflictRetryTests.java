@@ -0,0 +1,75 @@
+package com.ascent.coursebuddybackend.Service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+// Duplicate keys reach ConflictRetry as the DataIntegrityViolationException
+// that HibernateJpaDialect translates them to; only those are retried.
+class ConflictRetryTests {
+
+    private final ConflictRetry conflictRetry = new ConflictRetry();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(conflictRetry, "maxAttempts", 3);
+        ReflectionTestUtils.setField(conflictRetry, "backoffMillis", 0L);
+    }
+
+    @Test
+    void retriesUniqueKeyViolation() {
+        AtomicInteger attempts = new AtomicInteger();
+        String result = conflictRetry.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw integrityViolation(new ConstraintViolationException("insert into student_courses",
+                        new SQLException("duplicate", "23000"), ConstraintViolationException.ConstraintKind.UNIQUE,
+                        "pk_student_courses"));
+            }
+            return "enrolled";
+        });
+
+        assertThat(result).isEqualTo("enrolled");
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void retriesSqlServerDuplicateKeyErrorCode() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> conflictRetry.execute(() -> {
+            attempts.incrementAndGet();
+            throw integrityViolation(new SQLException("Cannot insert duplicate key", "23000", 2627));
+        }))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(HttpStatus.CONFLICT);
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void rethrowsOtherIntegrityViolationsWithoutRetrying() {
+        AtomicInteger attempts = new AtomicInteger();
+        DataIntegrityViolationException notNull = integrityViolation(new ConstraintViolationException(
+                "insert into students", new SQLException("Cannot insert the value NULL", "23000", 515), "first_name"));
+
+        assertThatThrownBy(() -> conflictRetry.execute(() -> {
+            attempts.incrementAndGet();
+            throw notNull;
+        })).isSameAs(notNull);
+        assertThat(attempts).hasValue(1);
+    }
+
+    private static DataIntegrityViolationException integrityViolation(Exception cause) {
+        return new DataIntegrityViolationException("could not execute statement", cause);
+    }
+}
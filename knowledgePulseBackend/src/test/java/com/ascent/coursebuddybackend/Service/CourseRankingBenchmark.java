@@ -0,0 +1,101 @@
+package com.ascent.coursebuddybackend.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Cost of recording an enrollment and of reading the top 10 as the number of
+// ranked courses and prior enrollments grows. fullScanTop10 is the
+// aggregate-then-sort shape of a GROUP BY ... ORDER BY per page view, done in
+// memory so only the algorithmic cost is compared.
+//
+// Run with:
+//   mvn test-compile exec:java -Dexec.classpathScope=test \
+//       -Dexec.mainClass=com.ascent.coursebuddybackend.Service.CourseRankingBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CourseRankingBenchmark {
+
+    private static final long HALF_LIFE_MILLIS = TimeUnit.HOURS.toMillis(72);
+
+    @Param({"100", "10000", "100000"})
+    private int courses;
+
+    @Param({"100000", "1000000"})
+    private int priorEnrollments;
+
+    private DecayingTopK ranking;
+    private Map<Long, Long> enrollmentCounts;
+    private SplittableRandom random;
+    private long clock;
+
+    @Setup
+    public void setUp() {
+        random = new SplittableRandom(42);
+        clock = System.currentTimeMillis();
+        ranking = new DecayingTopK(50, HALF_LIFE_MILLIS, clock);
+        enrollmentCounts = new HashMap<>();
+        for (int i = 0; i < priorEnrollments; i++) {
+            long courseId = skewedCourse();
+            ranking.record(courseId, clock, 1);
+            enrollmentCounts.merge(courseId, 1L, Long::sum);
+        }
+    }
+
+    @Benchmark
+    public void recordEnrollment() {
+        // Advance time so the forward-decay weights keep growing as in production
+        clock += 10;
+        ranking.record(skewedCourse(), clock, 1);
+    }
+
+    @Benchmark
+    public List<Long> top10() {
+        return ranking.top(10);
+    }
+
+    @Benchmark
+    public List<Long> fullScanTop10() {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(enrollmentCounts.entrySet());
+        entries.sort(Map.Entry.<Long, Long>comparingByValue().reversed());
+        List<Long> top = new ArrayList<>(10);
+        for (int i = 0; i < Math.min(10, entries.size()); i++) {
+            top.add(entries.get(i).getKey());
+        }
+        return top;
+    }
+
+    // A few courses take most enrollments, like a real catalog
+    private long skewedCourse() {
+        double u = random.nextDouble();
+        return (long) (courses * u * u * u);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CourseRankingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,95 @@
+package com.ascent.coursebuddybackend.Service;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.ascent.coursebuddybackend.entity.CustomUserDetails;
+import com.ascent.coursebuddybackend.entity.Users;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+// Compares the per-request cost of the JwtFilter token check before and after
+// parsing was collapsed into a single verified pass.
+//
+// Run with:
+//   mvn test-compile exec:java -Dexec.classpathScope=test \
+//       -Dexec.mainClass=com.ascent.coursebuddybackend.Service.JwtParsingBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtParsingBenchmark {
+
+    private String secretKey;
+    private JWTService jwtService;
+    private CustomUserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        SecretKey key = KeyGenerator.getInstance("HmacSHA256").generateKey();
+        secretKey = Base64.getEncoder().encodeToString(key.getEncoded());
+        jwtService = new JWTService(secretKey);
+
+        Users user = new Users();
+        user.setId(1);
+        user.setUsername("student@example.com");
+        user.setRole("STUDENT");
+        userDetails = new CustomUserDetails(user);
+        token = jwtService.generateToken(user.getId(), user.getUsername(), user.getRole());
+    }
+
+    // Previous filter path: extractUserName in the filter, then extractUserName
+    // and isTokenExpired inside validateToken, each rebuilding key and parser.
+    @Benchmark
+    public boolean legacyThreeParses() {
+        String username = legacyParse(token).getSubject();
+        boolean sameUser = legacyParse(token).getSubject().equals(userDetails.getUsername());
+        boolean expired = legacyParse(token).getExpiration().before(new Date());
+        return username != null && sameUser && !expired;
+    }
+
+    @Benchmark
+    public boolean singleVerifiedParse() {
+        Claims claims = jwtService.parseVerifiedClaims(token);
+        return claims.getSubject() != null && jwtService.isTokenValid(claims, userDetails);
+    }
+
+    private Claims legacyParse(String jwt) {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(jwt)
+                .getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtParsingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
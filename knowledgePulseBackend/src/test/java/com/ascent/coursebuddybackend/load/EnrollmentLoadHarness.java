@@ -0,0 +1,186 @@
+package com.ascent.coursebuddybackend.load;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Fires N simultaneous POST /api/students/me/enroll requests at one course of
+// capacity C against a running backend, then checks that exactly min(N, C)
+// students got a seat and the rest were waitlisted. Prints throughput and
+// latency percentiles for the enroll burst only (setup is not timed).
+//
+// Start the backend, then run:
+//   mvn test-compile exec:java -Dexec.classpathScope=test \
+//       -Dexec.mainClass=com.ascent.coursebuddybackend.load.EnrollmentLoadHarness \
+//       -Dload.baseUrl=http://localhost:8080 -Dload.students=1000 -Dload.capacity=100
+public class EnrollmentLoadHarness {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final String baseUrl;
+
+    EnrollmentLoadHarness(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("load.baseUrl", "http://localhost:8080");
+        int students = Integer.getInteger("load.students", 1000);
+        int capacity = Integer.getInteger("load.capacity", 100);
+        new EnrollmentLoadHarness(baseUrl).run(students, capacity);
+    }
+
+    void run(int students, int capacity) throws Exception {
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+        String adminToken = createAdmin("load-admin-" + runId + "@example.com");
+        long courseId = createCourse(adminToken, "LOAD-" + runId, capacity);
+        System.out.printf("Course %d created with capacity %d; registering %d students...%n",
+                courseId, capacity, students);
+
+        List<String> tokens = new ArrayList<>(students);
+        try (ExecutorService setup = Executors.newFixedThreadPool(16)) {
+            List<Future<String>> registered = new ArrayList<>();
+            for (int i = 0; i < students; i++) {
+                String username = "load-" + runId + "-" + i + "@example.com";
+                registered.add(setup.submit(() -> registerStudent(username)));
+            }
+            for (Future<String> token : registered) {
+                tokens.add(token.get());
+            }
+        }
+
+        long[] latencies = new long[students];
+        AtomicInteger enrolled = new AtomicInteger();
+        AtomicInteger waitlisted = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(students);
+        String body = "{\"courseId\":" + courseId + "}";
+
+        // One virtual thread per request so all N are in flight at once
+        try (ExecutorService burst = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < students; i++) {
+                int index = i;
+                burst.submit(() -> {
+                    try {
+                        start.await();
+                        long begin = System.nanoTime();
+                        HttpResponse<String> response = client.send(post("/api/students/me/enroll", tokens.get(index), body),
+                                HttpResponse.BodyHandlers.ofString());
+                        latencies[index] = System.nanoTime() - begin;
+                        switch (response.statusCode()) {
+                            case 200 -> enrolled.incrementAndGet();
+                            case 202 -> waitlisted.incrementAndGet();
+                            default -> failed.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                    } finally {
+                        done.countDown();
+                    }
+                    return null;
+                });
+            }
+            long burstStart = System.nanoTime();
+            start.countDown();
+            done.await();
+            double seconds = (System.nanoTime() - burstStart) / 1e9;
+
+            Arrays.sort(latencies);
+            System.out.printf("%d requests in %.2fs -> %.0f req/s%n", students, seconds, students / seconds);
+            System.out.printf("latency ms: p50=%.1f p95=%.1f p99=%.1f max=%.1f%n",
+                    percentile(latencies, 50), percentile(latencies, 95),
+                    percentile(latencies, 99), latencies[latencies.length - 1] / 1e6);
+            System.out.printf("enrolled=%d waitlisted=%d failed=%d%n", enrolled.get(), waitlisted.get(), failed.get());
+        }
+
+        int roster = rosterSize(courseId);
+        int expected = Math.min(students, capacity);
+        System.out.printf("roster size=%d (expected %d)%n", roster, expected);
+        if (roster != expected || enrolled.get() != expected || failed.get() != 0) {
+            throw new IllegalStateException("Seat accounting mismatch: roster=" + roster
+                    + ", enrolled=" + enrolled.get() + ", failed=" + failed.get() + ", expected=" + expected);
+        }
+    }
+
+    String createAdmin(String username) throws Exception {
+        String password = UUID.randomUUID().toString();
+        send(post("/api/admin/create-admin", null,
+                MAPPER.writeValueAsString(Map.of("username", username, "password", password))));
+        JsonNode login = send(post("/api/auth/login", null,
+                MAPPER.writeValueAsString(Map.of("username", username, "password", password))));
+        return login.get("token").asText();
+    }
+
+    long createCourse(String adminToken, String courseCode, int capacity) throws Exception {
+        JsonNode course = send(post("/api/courses", adminToken, MAPPER.writeValueAsString(Map.of(
+                "courseCode", courseCode,
+                "courseName", "Load test " + courseCode,
+                "credits", 3,
+                "instructor", "Load Harness",
+                "capacity", capacity))));
+        return course.get("id").asLong();
+    }
+
+    String registerStudent(String username) throws Exception {
+        JsonNode registration = send(post("/api/auth/register", null, MAPPER.writeValueAsString(Map.of(
+                "username", username,
+                "password", "load-test-password",
+                "role", "STUDENT"))));
+        send(post("/api/students?username=" + URLEncoder.encode(username, StandardCharsets.UTF_8), null, MAPPER.writeValueAsString(Map.of(
+                "firstName", "Load",
+                "lastName", username))));
+        return registration.get("token").asText();
+    }
+
+    private int rosterSize(long courseId) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/courses/" + courseId + "/students"))
+                .GET()
+                .build();
+        return send(request).size();
+    }
+
+    HttpRequest post(String path, String token, String json) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private JsonNode send(HttpRequest request) throws Exception {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " -> "
+                    + response.statusCode() + ": " + response.body());
+        }
+        return MAPPER.readTree(response.body());
+    }
+
+    static double percentile(long[] sorted, int p) {
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
@@ -0,0 +1,156 @@
+package com.ascent.coursebuddybackend.load;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Measures time-to-first-request: from launching a fresh JVM to the first
+// successful GET /api/courses, plus the latency of that request and of the one
+// after it (lazy initialization moves work from startup into the first
+// requests, so both matter). Each scenario is started startup.runs times
+// against the database in application.properties and the medians are printed.
+//
+// Scenarios: the default eager startup; the fast-start profile (lazy beans,
+// pinned BCrypt cost, async admin seeding); fast-start with AOT, if the jar was
+// built with -Pfast-start; and fast-start with AOT and a CDS archive, if
+// startup.cdsDir points at an extracted jar with application.jsa in it (as
+// produced by the Dockerfile).
+//
+// With SQL Server reachable, run:
+//   mvn -Pfast-start package -DskipTests
+//   mvn test-compile exec:java -Dexec.classpathScope=test \
+//       -Dexec.mainClass=com.ascent.coursebuddybackend.load.StartupTimeHarness \
+//       -Dstartup.aot=true -Dstartup.runs=5
+public class StartupTimeHarness {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    public static void main(String[] args) throws Exception {
+        int runs = Integer.getInteger("startup.runs", 5);
+        String jarProperty = System.getProperty("startup.jar");
+        Path jar = jarProperty != null ? Path.of(jarProperty) : findJar();
+        String cdsDir = System.getProperty("startup.cdsDir");
+
+        StartupTimeHarness harness = new StartupTimeHarness();
+        List<String> report = new ArrayList<>();
+        report.add(harness.run("eager (default)", jar, List.of(), List.of(), runs));
+        report.add(harness.run("fast-start", jar, List.of(), List.of("--spring.profiles.active=fast-start"), runs));
+        if (Boolean.getBoolean("startup.aot")) {
+            report.add(harness.run("fast-start + AOT", jar, List.of("-Dspring.aot.enabled=true"),
+                    List.of("--spring.profiles.active=fast-start"), runs));
+        }
+        if (cdsDir != null) {
+            Path dir = Path.of(cdsDir);
+            report.add(harness.run("fast-start + AOT + CDS", dir.resolve("app.jar"),
+                    List.of("-XX:SharedArchiveFile=" + dir.resolve("application.jsa"), "-Dspring.aot.enabled=true"),
+                    List.of("--spring.profiles.active=fast-start"), runs));
+        }
+
+        System.out.printf("%n%s, median of %d starts%n", jar.getFileName(), runs);
+        System.out.printf("%-24s %14s %16s %15s%n", "scenario", "first req ms", "1st latency ms", "2nd latency ms");
+        report.forEach(System.out::println);
+    }
+
+    String run(String scenario, Path jar, List<String> jvmArgs, List<String> appArgs, int runs) throws Exception {
+        long[] ready = new long[runs];
+        long[] first = new long[runs];
+        long[] second = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            int port = freePort();
+            List<String> command = new ArrayList<>();
+            command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+            command.addAll(jvmArgs);
+            command.add("-jar");
+            command.add(jar.toString());
+            command.add("--server.port=" + port);
+            command.addAll(appArgs);
+
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder(command)
+                    .directory(jar.toAbsolutePath().getParent().toFile())
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .redirectError(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            try {
+                URI uri = URI.create("http://localhost:" + port + "/api/courses");
+                first[i] = awaitFirstResponse(uri, start, process);
+                ready[i] = System.nanoTime() - start;
+                long secondStart = System.nanoTime();
+                get(uri);
+                second[i] = System.nanoTime() - secondStart;
+            } finally {
+                stop(process);
+            }
+            System.out.printf("%s run %d: first request after %d ms%n", scenario, i + 1, ready[i] / 1_000_000);
+        }
+        return String.format("%-24s %14d %16d %15d", scenario,
+                median(ready) / 1_000_000, median(first) / 1_000_000, median(second) / 1_000_000);
+    }
+
+    // Polls until a request succeeds; returns that request's own latency
+    private long awaitFirstResponse(URI uri, long start, Process process) throws Exception {
+        while (System.nanoTime() - start < STARTUP_TIMEOUT.toNanos()) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Backend exited with status " + process.exitValue());
+            }
+            long requestStart = System.nanoTime();
+            try {
+                if (get(uri) == 200) {
+                    return System.nanoTime() - requestStart;
+                }
+            } catch (ConnectException e) {
+                // Not listening yet
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("No successful response within " + STARTUP_TIMEOUT);
+    }
+
+    private int get(URI uri) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static void stop(Process process) throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static Path findJar() throws IOException {
+        try (Stream<Path> files = Files.list(Path.of("target"))) {
+            return files.filter(path -> path.toString().endsWith(".jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No jar in target/; run mvn package first or set -Dstartup.jar"));
+        }
+    }
+}
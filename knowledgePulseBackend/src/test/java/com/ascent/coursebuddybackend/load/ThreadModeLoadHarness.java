@@ -0,0 +1,177 @@
+package com.ascent.coursebuddybackend.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.ascent.coursebuddybackend.CourseBuddyBackendApplication;
+
+// Compares platform-thread and virtual-thread request handling under the same
+// closed-loop load. The backend is started in-process once per mode against the
+// database in application.properties; a fixed number of clients then hammer
+// GET /api/courses, and afterwards POST /api/students/me/enroll (each client
+// enrolls its own student and unenrolls again between requests, only the
+// enroll is timed). Throughput and latency percentiles are printed per mode.
+//
+// With SQL Server reachable, run:
+//   mvn test-compile exec:java -Dexec.classpathScope=test \
+//       -Dexec.mainClass=com.ascent.coursebuddybackend.load.ThreadModeLoadHarness \
+//       -Dload.clients=400 -Dload.seconds=30 -Dload.warmupSeconds=5
+public class ThreadModeLoadHarness {
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    public static void main(String[] args) throws Exception {
+        int clients = Integer.getInteger("load.clients", 400);
+        int seconds = Integer.getInteger("load.seconds", 30);
+        int warmupSeconds = Integer.getInteger("load.warmupSeconds", 5);
+
+        ThreadModeLoadHarness harness = new ThreadModeLoadHarness();
+        List<String> report = new ArrayList<>();
+        for (boolean virtual : new boolean[] {false, true}) {
+            report.addAll(harness.run(virtual, clients, seconds, warmupSeconds));
+        }
+
+        System.out.printf("%n%d clients, %ds per scenario%n", clients, seconds);
+        System.out.printf("%-26s %-9s %9s %8s %8s %8s %7s%n", "scenario", "threads", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        report.forEach(System.out::println);
+    }
+
+    List<String> run(boolean virtual, int clients, int seconds, int warmupSeconds) throws Exception {
+        String mode = virtual ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CourseBuddyBackendApplication.class)
+                .properties("server.port=0", "spring.threads.virtual.enabled=" + virtual)
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port;
+            EnrollmentLoadHarness setup = new EnrollmentLoadHarness(baseUrl);
+
+            String runId = UUID.randomUUID().toString().substring(0, 8);
+            String adminToken = setup.createAdmin("mode-admin-" + runId + "@example.com");
+            // Room for every client so enroll never falls through to the waitlist
+            long courseId = setup.createCourse(adminToken, "MODE-" + runId, clients * 2);
+            List<String> tokens = new ArrayList<>(clients);
+            try (ExecutorService registration = Executors.newFixedThreadPool(16)) {
+                List<Future<String>> registered = new ArrayList<>();
+                for (int i = 0; i < clients; i++) {
+                    String username = "mode-" + runId + "-" + i + "@example.com";
+                    registered.add(registration.submit(() -> setup.registerStudent(username)));
+                }
+                for (Future<String> token : registered) {
+                    tokens.add(token.get());
+                }
+            }
+
+            HttpRequest listCourses = HttpRequest.newBuilder(URI.create(baseUrl + "/api/courses")).GET().build();
+            String enrollBody = "{\"courseId\":" + courseId + "}";
+            Scenario courses = index -> new Request(listCourses, null);
+            Scenario enroll = index -> new Request(
+                    setup.post("/api/students/me/enroll", tokens.get(index), enrollBody),
+                    setup.post("/api/students/me/unenroll", tokens.get(index), enrollBody));
+
+            measure(courses, clients, warmupSeconds);
+            Result coursesResult = measure(courses, clients, seconds);
+            measure(enroll, clients, warmupSeconds);
+            Result enrollResult = measure(enroll, clients, seconds);
+            return List.of(coursesResult.format("GET /api/courses", mode),
+                    enrollResult.format("POST /students/me/enroll", mode));
+        }
+    }
+
+    // Each client issues its next request as soon as the previous one returns
+    private Result measure(Scenario scenario, int clients, int seconds) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> perClient = new ArrayList<>(clients);
+
+        long begin;
+        try (ExecutorService load = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                int index = i;
+                perClient.add(load.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    start.await();
+                    Request request = scenario.request(index);
+                    while (System.nanoTime() < deadline) {
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request.timed(), HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 300) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - sent;
+                        if (request.reset() != null) {
+                            try {
+                                client.send(request.reset(), HttpResponse.BodyHandlers.discarding());
+                            } catch (Exception e) {
+                                errors.incrementAndGet();
+                            }
+                        }
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+            begin = System.nanoTime();
+            start.countDown();
+        }
+        double elapsed = (System.nanoTime() - begin) / 1e9;
+
+        long[] all = new long[0];
+        for (Future<long[]> latencies : perClient) {
+            long[] clientLatencies = latencies.get();
+            int offset = all.length;
+            all = Arrays.copyOf(all, offset + clientLatencies.length);
+            System.arraycopy(clientLatencies, 0, all, offset, clientLatencies.length);
+        }
+        Arrays.sort(all);
+        return new Result(all, elapsed, errors.get());
+    }
+
+    private interface Scenario {
+        Request request(int clientIndex);
+    }
+
+    // reset, when present, undoes the timed request so it can be repeated
+    private record Request(HttpRequest timed, HttpRequest reset) {
+    }
+
+    private record Result(long[] sortedLatencies, double seconds, int errors) {
+        String format(String scenario, String mode) {
+            if (sortedLatencies.length == 0) {
+                return String.format("%-26s %-9s %9s", scenario, mode, "no requests");
+            }
+            return String.format("%-26s %-9s %9.0f %8.1f %8.1f %8.1f %7d", scenario, mode,
+                    sortedLatencies.length / seconds,
+                    EnrollmentLoadHarness.percentile(sortedLatencies, 50),
+                    EnrollmentLoadHarness.percentile(sortedLatencies, 99),
+                    sortedLatencies[sortedLatencies.length - 1] / 1e6,
+                    errors);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.ascent.coursebuddybackend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+
+import com.ascent.coursebuddybackend.dto.StudentDto;
+import com.ascent.coursebuddybackend.entity.Course;
+import com.ascent.coursebuddybackend.entity.Student;
+import com.ascent.coursebuddybackend.entity.Users;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+// Guards the student list and course roster endpoints against N+1 selects:
+// each must stay at one statement no matter how many rows are involved.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querycount;MODE=MSSQLServer;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        // The migrations are SQL Server DDL; H2 gets its schema from the entities
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class FetchQueryCountTests {
+
+    private static final int STUDENTS = 5;
+    private static final int COURSES = 3;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    private Statistics statistics;
+    private Long courseId;
+
+    @BeforeEach
+    void setUp() {
+        Users admin = user("admin@example.com", "ADMIN");
+        Course[] courses = new Course[COURSES];
+        for (int i = 0; i < COURSES; i++) {
+            Course course = new Course();
+            course.setCourseCode("CS10" + i);
+            course.setCourseName("Course " + i);
+            course.setCredits(3);
+            course.setCreatedBy(admin);
+            entityManager.persist(course);
+            courses[i] = course;
+        }
+        for (int i = 0; i < STUDENTS; i++) {
+            Student student = new Student();
+            student.setFirstName("First" + i);
+            student.setLastName("Last" + i);
+            student.setUser(user("student" + i + "@example.com", "STUDENT"));
+            for (Course course : courses) {
+                student.enrollInCourse(course);
+            }
+            entityManager.persist(student);
+        }
+        courseId = courses[0].getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void listingStudentsWithCoursesRunsOneQuery() {
+        List<StudentDto> students = studentRepository.findAllWithUserAndCourses().stream()
+                .map(StudentDto::from)
+                .toList();
+
+        assertThat(students).hasSize(STUDENTS);
+        assertThat(students).allSatisfy(student -> {
+            assertThat(student.user()).isNotNull();
+            assertThat(student.courses()).hasSize(COURSES);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void listingCourseRosterRunsOneQuery() {
+        List<StudentDto> roster = courseRepository.findWithStudentsById(courseId).orElseThrow()
+                .getStudents().stream()
+                .map(StudentDto::withoutCourses)
+                .toList();
+
+        assertThat(roster).hasSize(STUDENTS);
+        assertThat(roster).allSatisfy(student -> assertThat(student.user()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private Users user(String username, String role) {
+        Users user = new Users();
+        user.setUsername(username);
+        user.setPassword("{noop}password");
+        user.setRole(role);
+        entityManager.persist(user);
+        return user;
+    }
+}
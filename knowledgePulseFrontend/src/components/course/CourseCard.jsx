@@ -49,10 +49,10 @@ const CourseCard = ({ course, index = 0 }) => {
           <div className="flex items-center gap-1">
             <span className="text-yellow-500">⭐</span>
             <span className="text-sm font-semibold">
-              {course.rating || "4.8"}
+              {course.averageRating?.toFixed(1) || "New"}
             </span>
             <span className="text-sm text-gray-500">
-              ({course.reviewsCount || "44k"} reviews)
+              ({course.ratingCount || 0} reviews)
             </span>
           </div>
           <div className="text-[#1D6E61] font-bold text-sm">
@@ -63,23 +63,19 @@ const AdminDashboard = () => {
         return;
       }
 
-      const [studentsData, coursesData] = await Promise.all([
+      const [studentsData, coursesData, courseStats] = await Promise.all([
         studentService.getAllStudents(),
         courseService.getAllCourses(),
+        courseService.getAllCourseStats(),
       ]);
 
       setStudents(studentsData);
       setCourses(coursesData);
 
-      // Calculate stats
-      const totalEnrollments = studentsData.reduce((acc, student) => {
-        return acc + (student.enrolledCourses?.length || 0);
-      }, 0);
-
       setStats({
         totalStudents: studentsData.length,
         totalCourses: coursesData.length,
-        totalEnrollments,
+        totalEnrollments: courseStats.totalEnrollments,
       });
     } catch (error) {
       console.error("Error fetching data:", error);
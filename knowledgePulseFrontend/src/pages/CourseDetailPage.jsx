@@ -11,7 +11,7 @@ import {
   Star,
   Users,
 } from "lucide-react";
-import { useEffect, useState } from "react";
+import { useEffect, useRef, useState } from "react";
 import { useNavigate, useParams } from "react-router-dom";
 import RelatedCourses from "../components/course/RelatedCourses";
 import authService from "../services/authService";
@@ -28,6 +28,14 @@ const CourseDetailPage = () => {
   const [isEnrolled, setIsEnrolled] = useState(false);
   const [relatedCourses, setRelatedCourses] = useState([]);
   const [activeTab, setActiveTab] = useState("overview");
+  // Idempotency keys of an enroll/unenroll that has not succeeded yet
+  const enrollKey = useRef(null);
+  const unenrollKey = useRef(null);
+
+  useEffect(() => {
+    enrollKey.current = null;
+    unenrollKey.current = null;
+  }, [id]);
 
   useEffect(() => {
     fetchCourseDetails();
@@ -97,9 +105,24 @@ const CourseDetailPage = () => {
       return;
     }
 
+    // Kept until the request succeeds, so clicking again after a failure
+    // retries with the same key instead of enrolling twice
+    if (!enrollKey.current) {
+      enrollKey.current = studentService.newIdempotencyKey();
+    }
     setEnrolling(true);
     try {
-      await studentService.enrollInCourse(parseInt(id));
+      const result = await studentService.enrollInCourse(
+        parseInt(id),
+        enrollKey.current
+      );
+      enrollKey.current = null;
+      if (result?.status === "WAITLISTED") {
+        alert(
+          `This course is full. You are #${result.waitlistPosition} on the waitlist.`
+        );
+        return;
+      }
       setIsEnrolled(true);
       alert("Successfully enrolled in the course!");
     } catch (error) {
@@ -116,9 +139,16 @@ const CourseDetailPage = () => {
     if (!window.confirm("Are you sure you want to unenroll from this course?"))
       return;
 
+    if (!unenrollKey.current) {
+      unenrollKey.current = studentService.newIdempotencyKey();
+    }
     setEnrolling(true);
     try {
-      await studentService.unenrollFromCourse(parseInt(id));
+      await studentService.unenrollFromCourse(
+        parseInt(id),
+        unenrollKey.current
+      );
+      unenrollKey.current = null;
       setIsEnrolled(false);
       alert("Successfully unenrolled from the course");
     } catch (error) {
@@ -270,7 +300,7 @@ const CourseDetailPage = () => {
                       <span className="text-sm text-gray-600">Rating</span>
                     </div>
                     <p className="text-xl font-bold text-gray-900">
-                      {course.rating || "4.5"}
+                      {course.averageRating?.toFixed(1) || "New"}
                     </p>
                   </div>
 
@@ -241,10 +241,10 @@ const CoursePage = () => {
                         <div className="flex items-center gap-1 text-[#EAB141]">
                           <Star className="w-4 h-4 fill-current" />
                           <span className="font-semibold">
-                            {course.rating || "4.5"}
+                            {course.averageRating?.toFixed(1) || "New"}
                           </span>
                           <span className="text-gray-500">
-                            ({course.reviews || 0})
+                            ({course.ratingCount || 0})
                           </span>
                         </div>
                         <div className="flex items-center gap-1 text-gray-600">
@@ -327,10 +327,10 @@ const CoursePage = () => {
                             <div className="flex items-center gap-1 text-[#EAB141]">
                               <Star className="w-5 h-5 fill-current" />
                               <span className="font-semibold">
-                                {course.rating || "4.5"}
+                                {course.averageRating?.toFixed(1) || "New"}
                               </span>
                               <span className="text-gray-500">
-                                ({course.reviews || 0} reviews)
+                                ({course.ratingCount || 0} reviews)
                               </span>
                             </div>
                             <div className="flex items-center gap-1 text-gray-600">
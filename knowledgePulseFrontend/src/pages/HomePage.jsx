@@ -23,9 +23,13 @@ const HomePage = () => {
     let mounted = true;
     const load = async () => {
       try {
-        const data = await courseService.getAllCourses();
+        const data = await courseService.getAllCourses({
+          page: 0,
+          size: 8,
+          sort: "createdAt,desc",
+        });
         if (!mounted) return;
-        setCourses(Array.isArray(data) ? data.slice(0, 8) : []);
+        setCourses(Array.isArray(data?.content) ? data.content : []);
       } catch (err) {
         console.error("Failed to load courses for homepage:", err);
       }
@@ -191,6 +191,37 @@ const courseService = {
     }
   },
 
+  // Upload lesson video or attachment (Admin only); kind is MEDIA or ATTACHMENT
+  uploadLessonFile: async (courseId, lessonId, formData, kind = "ATTACHMENT") => {
+    try {
+      const response = await api.post(
+        `/courses/${courseId}/lessons/${lessonId}/files`,
+        formData,
+        {
+          params: { kind },
+          headers: {
+            "Content-Type": "multipart/form-data",
+          },
+        }
+      );
+      return response.data;
+    } catch (error) {
+      throw error.response?.data || error.message;
+    }
+  },
+
+  // Delete lesson file (Admin only)
+  deleteLessonFile: async (courseId, lessonId, fileId) => {
+    try {
+      const response = await api.delete(
+        `/courses/${courseId}/lessons/${lessonId}/files/${fileId}`
+      );
+      return response.data;
+    } catch (error) {
+      throw error.response?.data || error.message;
+    }
+  },
+
   // Get course reviews
   getCourseReviews: async (courseId) => {
     try {
@@ -3,6 +3,17 @@ import axios from "axios";
 // Base URL for the API
 const API_URL = "http://localhost:8080/api";
 
+// crypto.randomUUID only exists in secure contexts (https or localhost); the
+// dev server is plain http, so fall back to getRandomValues there
+const newIdempotencyKey = () => {
+  if (typeof crypto !== "undefined" && crypto.randomUUID) {
+    return crypto.randomUUID();
+  }
+  const bytes = new Uint8Array(16);
+  crypto.getRandomValues(bytes);
+  return Array.from(bytes, (b) => b.toString(16).padStart(2, "0")).join("");
+};
+
 // Create axios instance
 const api = axios.create({
   baseURL: API_URL,
@@ -121,10 +132,18 @@ const studentService = {
     }
   },
 
+  // Idempotency-Key for one user action; reuse it when retrying that action
+  newIdempotencyKey: () => newIdempotencyKey(),
+
   // Enroll in a course
-  enrollInCourse: async (courseId) => {
+  // Pass the same idempotencyKey when retrying so the server applies it once
+  enrollInCourse: async (courseId, idempotencyKey) => {
     try {
-      const response = await api.post("/students/me/enroll", { courseId });
+      const response = await api.post(
+        "/students/me/enroll",
+        { courseId },
+        { headers: { "Idempotency-Key": idempotencyKey ?? newIdempotencyKey() } }
+      );
       return response.data;
     } catch (error) {
       throw error.response?.data || error.message;
@@ -132,9 +151,13 @@ const studentService = {
   },
 
   // Unenroll from a course
-  unenrollFromCourse: async (courseId) => {
+  unenrollFromCourse: async (courseId, idempotencyKey) => {
     try {
-      const response = await api.post("/students/me/unenroll", { courseId });
+      const response = await api.post(
+        "/students/me/unenroll",
+        { courseId },
+        { headers: { "Idempotency-Key": idempotencyKey ?? newIdempotencyKey() } }
+      );
       return response.data;
     } catch (error) {
       throw error.response?.data || error.message;